@@ -0,0 +1,65 @@
+package dev.modex.skisprungsimulator.benchmarks;
+
+import dev.modex.skisprungsimulator.enums.Ramps;
+import dev.modex.skisprungsimulator.objects.DifficultyTable;
+import dev.modex.skisprungsimulator.objects.RampProfile;
+import dev.modex.skisprungsimulator.objects.Roster;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+
+/**
+ * Checks that approximating the difficulty of the landing with a
+ * {@link DifficultyTable} stays within its error bound and barely changes
+ * how many jumpers get disqualified. For every {@link Ramps} entry, the same
+ * random jumps are calculated exactly and with the table, the run fails
+ * if the disqualification rates differ by more than the tolerance.
+ * <p>
+ * Usage: {@code DifficultyAccuracy [<Error> [<Tolerance> [<Jumps>]]]},
+ * exits with status 1 if a check fails.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class DifficultyAccuracy {
+
+    public static void main(String[] args) {
+        double error = (args.length > 0) ? Double.parseDouble(args[0]) : 1e-3;
+        double tolerance = (args.length > 1) ? Double.parseDouble(args[1]) : 1e-3;
+        int jumps = (args.length > 2) ? Integer.parseInt(args[2]) : 1_000_000;
+
+        Roster roster = new Roster(jumps);
+        CustomRandom random = new CustomRandom(42);
+        for (int j = 0; j < jumps; j++)
+            roster.addRandom(random);
+
+        boolean failed = false;
+        for (Ramps ramp : Ramps.values()) {
+            RampProfile exact = ramp.toProfile();
+            RampProfile approximated = exact.withDifficultyTable(error);
+
+            double maxError = 0;
+            for (double distance = 0; distance <= ramp.getHillsize() * 2.5; distance += 0.01)
+                maxError = Math.max(maxError, Math.abs(approximated.getDifficultyTable().difficulty(distance) - RampProfile.difficulty(distance, ramp.getHillsize())));
+
+            long exactDisqualified = 0, approximatedDisqualified = 0;
+            for (int j = 0; j < jumps; j++) {
+                random.setSeed(CustomRandom.seedOf(7, j));
+                if (exact.distance(roster.getSpeed(j), roster.getPower(j), roster.getTiming(j), roster.getLanding(j), random) == 0)
+                    exactDisqualified++;
+
+                random.setSeed(CustomRandom.seedOf(7, j));
+                if (approximated.distance(roster.getSpeed(j), roster.getPower(j), roster.getTiming(j), roster.getLanding(j), random) == 0)
+                    approximatedDisqualified++;
+            }
+
+            double exactRate = (double) exactDisqualified / jumps;
+            double approximatedRate = (double) approximatedDisqualified / jumps;
+            boolean ok = maxError <= error && Math.abs(exactRate - approximatedRate) <= tolerance;
+            failed |= !ok;
+
+            System.out.printf("%-25s %6d values, max error %.2e, disqualified %.4f%% exact / %.4f%% approximated %s%n", ramp.getName(),
+                    approximated.getDifficultyTable().size(), maxError, exactRate * 100, approximatedRate * 100, ok ? "OK" : "FAILED");
+        }
+
+        if (failed)
+            System.exit(1);
+    }
+}
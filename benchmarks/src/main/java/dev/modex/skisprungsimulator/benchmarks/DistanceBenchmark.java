@@ -0,0 +1,84 @@
+package dev.modex.skisprungsimulator.benchmarks;
+
+import dev.modex.skisprungsimulator.enums.Ramps;
+import dev.modex.skisprungsimulator.objects.Form;
+import dev.modex.skisprungsimulator.objects.Jumper;
+import dev.modex.skisprungsimulator.objects.RampProfile;
+import dev.modex.skisprungsimulator.utils.CompetitionManager;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many jumps per second
+ * {@link CompetitionManager#calculateDistance(Jumper, CustomRandom)} can calculate,
+ * compared to calling the {@link RampProfile} directly, with and without a difficulty table
+ * and with the attributes multiplied by the factors of a {@link Form}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceBenchmark {
+
+    /**
+     * Ramp the jumps are calculated for
+     */
+    @Param({"Kulm", "Bergisel", "VillacherAlpenSchanze"})
+    public Ramps ramp;
+
+    private CompetitionManager manager;
+
+    private RampProfile profile;
+
+    private RampProfile table;
+
+    private Jumper jumper;
+
+    private CustomRandom random;
+
+    private double[] factors;
+
+    private long jump;
+
+    @Setup
+    public void setup() {
+        jumper = new Jumper(new CustomRandom(42));
+        manager = new CompetitionManager(List.of(jumper), ramp.toRamp());
+        profile = ramp.toProfile();
+        table = profile.withDifficultyTable(1e-3);
+        random = new CustomRandom(0);
+        factors = new Form(0.1, 0.05).generate(42, 1, 1024);
+    }
+
+    @Benchmark
+    public double calculateDistance() {
+        random.setSeed(CustomRandom.seedOf(42, jump++));
+        return manager.calculateDistance(jumper, random);
+    }
+
+    @Benchmark
+    public double profile() {
+        random.setSeed(CustomRandom.seedOf(42, jump++));
+        return profile.distance(jumper.getSpeed(), jumper.getPower(), jumper.getTiming(), jumper.getLanding(), random);
+    }
+
+    @Benchmark
+    public double form() {
+        double factor = factors[(int) jump & 1023];
+        random.setSeed(CustomRandom.seedOf(42, jump++));
+        return profile.distance(jumper.getSpeed() * factor, jumper.getPower() * factor, jumper.getTiming() * factor, jumper.getLanding(), random);
+    }
+
+    @Benchmark
+    public double table() {
+        random.setSeed(CustomRandom.seedOf(42, jump++));
+        return table.distance(jumper.getSpeed(), jumper.getPower(), jumper.getTiming(), jumper.getLanding(), random);
+    }
+}
@@ -0,0 +1,70 @@
+package dev.modex.skisprungsimulator.benchmarks;
+
+import dev.modex.skisprungsimulator.utils.CompetitionManager;
+import dev.modex.skisprungsimulator.utils.NullSink;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full {@link CompetitionManager#start()} pipeline, which includes
+ * simulating every round, sorting and formatting the results.
+ * The formatted output is discarded by a {@link NullSink}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PipelineBenchmark {
+
+    /**
+     * Amount of competitors
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int fieldSize;
+
+    /**
+     * Amount of rounds
+     */
+    @Param({"1", "4"})
+    public int rounds;
+
+    /**
+     * Amount of threads simulating the rounds
+     */
+    @Param({"1", "4"})
+    public int threads;
+
+    /**
+     * Pool shared by all invocations, null if the rounds are simulated sequentially
+     */
+    private ForkJoinPool pool;
+
+    private CompetitionManager manager;
+
+    @Setup(Level.Trial)
+    public void setupPool() {
+        pool = (threads == 1) ? null : new ForkJoinPool(threads);
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        manager = new CompetitionManager().setSeed(42).setExecutor(pool).setSink(new NullSink()).randomRamp().addRandomCompetitors(fieldSize).setRounds(rounds);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null)
+            pool.shutdown();
+    }
+
+    @Benchmark
+    public void start() {
+        manager.start();
+    }
+}
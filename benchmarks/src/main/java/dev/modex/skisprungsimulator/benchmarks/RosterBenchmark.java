@@ -0,0 +1,67 @@
+package dev.modex.skisprungsimulator.benchmarks;
+
+import dev.modex.skisprungsimulator.enums.FirstName;
+import dev.modex.skisprungsimulator.objects.Jumper;
+import dev.modex.skisprungsimulator.utils.CompetitionManager;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast random competitors can be generated.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RosterBenchmark {
+
+    /**
+     * Amount of competitors
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int fieldSize;
+
+    private CustomRandom random;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        random = new CustomRandom(42);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Jumper newJumper() {
+        return new Jumper(random);
+    }
+
+    @Benchmark
+    public FirstName firstName() {
+        return FirstName.random(random);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public CompetitionManager addRandomCompetitors() {
+        return new CompetitionManager().setSeed(42).addRandomCompetitors(fieldSize);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public CompetitionManager addRandomCompetitorsParallel() {
+        return new CompetitionManager().setSeed(42).setExecutor(pool).addRandomCompetitors(fieldSize);
+    }
+}
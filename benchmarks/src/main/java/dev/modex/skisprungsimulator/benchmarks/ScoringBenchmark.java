@@ -0,0 +1,105 @@
+package dev.modex.skisprungsimulator.benchmarks;
+
+import dev.modex.skisprungsimulator.enums.Ramps;
+import dev.modex.skisprungsimulator.objects.RampProfile;
+import dev.modex.skisprungsimulator.objects.Roster;
+import dev.modex.skisprungsimulator.objects.Scoring;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how much scoring adds to the cost of a jump. A block of jumps
+ * is calculated with {@link RampProfile} alone and once more followed by
+ * {@link Scoring#score(double[], double[], long[], double[], double[], int)},
+ * the difference should stay below 10% of a jump.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ScoringBenchmark.BLOCK)
+public class ScoringBenchmark {
+
+    /**
+     * How many jumps are calculated per invocation
+     */
+    static final int BLOCK = 1024;
+
+    /**
+     * Ramp the jumps are calculated for
+     */
+    @Param({"Kulm", "Bergisel"})
+    public Ramps ramp;
+
+    private Roster roster;
+
+    private RampProfile profile;
+
+    private Scoring scoring;
+
+    private CustomRandom random;
+
+    private double[] distances, landings, compensations, points;
+
+    private long[] marks;
+
+    private long jump;
+
+    @Setup
+    public void setup() {
+        roster = new Roster(BLOCK);
+        CustomRandom generator = new CustomRandom(42);
+        for (int j = 0; j < BLOCK; j++)
+            roster.addRandom(generator);
+
+        profile = ramp.toProfile();
+        scoring = new Scoring(profile);
+        random = new CustomRandom(0);
+        distances = new double[BLOCK];
+        landings = new double[BLOCK];
+        compensations = new double[BLOCK];
+        points = new double[BLOCK];
+        marks = new long[BLOCK];
+    }
+
+    /**
+     * @return Sum of the distances, so the jumps can not be eliminated
+     */
+    @Benchmark
+    public double jumps() {
+        double sum = 0;
+        for (int j = 0; j < BLOCK; j++) {
+            random.setSeed(CustomRandom.seedOf(42, jump++));
+            distances[j] = profile.distance(roster.getSpeed(j), roster.getPower(j), roster.getTiming(j), roster.getLanding(j), random);
+            sum += distances[j];
+        }
+
+        return sum;
+    }
+
+    /**
+     * @return Sum of the points, so the jumps can not be eliminated
+     */
+    @Benchmark
+    public double scoredJumps() {
+        for (int j = 0; j < BLOCK; j++) {
+            random.setSeed(CustomRandom.seedOf(42, jump++));
+            distances[j] = profile.distance(roster.getSpeed(j), roster.getPower(j), roster.getTiming(j), roster.getLanding(j), random);
+            landings[j] = roster.getLanding(j);
+            marks[j] = random.nextLong();
+        }
+        scoring.score(distances, landings, marks, compensations, points, BLOCK);
+
+        double sum = 0;
+        for (int j = 0; j < BLOCK; j++)
+            sum += points[j];
+
+        return sum;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.modex.skisprungsimulator.benchmarks;
+
+import dev.modex.skisprungsimulator.objects.Competition;
+import dev.modex.skisprungsimulator.objects.Jumper;
+import dev.modex.skisprungsimulator.objects.Results;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link Competition#sortResults()} and therefore
+ * {@link Results#compareTo(Results)} depending on the field size and the amount of rounds,
+ * compared to querying the {@link Competition#topResults()}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortBenchmark {
+
+    /**
+     * Amount of competitors
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int fieldSize;
+
+    /**
+     * Amount of rounds
+     */
+    @Param({"1", "4", "10"})
+    public int rounds;
+
+    private Competition competition;
+
+    @Setup
+    public void setup() {
+        CustomRandom random = new CustomRandom(42);
+        competition = new Competition();
+        competition.setRounds(rounds);
+
+        for (int j = 0; j < fieldSize; j++)
+            competition.addJumper(new Jumper(random));
+
+        for (int round = 0; round < rounds; round++)
+            for (Jumper competitor : competition.getCompetitors())
+                competition.addResult(competitor, random.nextInt(10) == 0 ? 0d : random.nextDouble(80, 140));
+    }
+
+    @Benchmark
+    public LinkedHashMap<Jumper, Results> sortResults() {
+        return competition.sortResults();
+    }
+
+    @Benchmark
+    public LinkedHashMap<Jumper, Results> leaderboard() {
+        return competition.topResults();
+    }
+}
@@ -1,6 +1,9 @@
 package dev.modex.skisprungsimulator;
 
 import dev.modex.skisprungsimulator.utils.CompetitionManager;
+import dev.modex.skisprungsimulator.utils.SimulationServer;
+
+import java.io.IOException;
 
 /**
  * This program is used to simulate realistic results of a
@@ -8,12 +11,25 @@ import dev.modex.skisprungsimulator.utils.CompetitionManager;
  * {@link CompetitionManager} which will handle everything.
  * To configure the competition command line arguments can
  * be taken, see {@link CompetitionManager#handleArgs(String[])}.
+ * With {@code --serve <Port>} the program simulates competitions
+ * on request instead, see {@link SimulationServer}.
  *
  * @author Modex / Thomas Spatz & Simon Garzon
  */
 public class Main {
 
-    public static void main(String[] args) {
-        new CompetitionManager().handleArgs(args).start();
+    public static void main(String[] args) throws IOException {
+        if (args.length == 2 && args[0].equals("--serve")) {
+            SimulationServer server = new SimulationServer(Integer.parseInt(args[1])).start();
+            System.out.println("Listening on http://localhost:" + server.getPort() + "/simulate");
+            return;
+        }
+
+        try {
+            new CompetitionManager().handleArgs(args).start();
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+            System.exit(1);
+        }
     }
 }
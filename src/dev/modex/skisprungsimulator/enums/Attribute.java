@@ -0,0 +1,72 @@
+package dev.modex.skisprungsimulator.enums;
+
+import dev.modex.skisprungsimulator.objects.Distribution;
+
+import java.util.Locale;
+
+/**
+ * This enum contains the attributes of a jumper that are drawn
+ * from a {@link Distribution} when a random jumper is created,
+ * together with the range they are drawn from by default.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public enum Attribute {
+    SPEED(1, 10),
+    POWER(1, 10),
+    TIMING(1, 10),
+    LANDING(6, 10);
+
+    /**
+     * Lowest value of the attribute
+     */
+    private final double min;
+
+    /**
+     * Highest value of the attribute
+     */
+    private final double max;
+
+    /**
+     * Constructor
+     *
+     * @param min Initializes the lowest value of the attribute
+     * @param max Initializes the highest value of the attribute
+     */
+    Attribute(double min, double max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Parses the name of an attribute, ignoring its case.
+     *
+     * @param name Name of the attribute, e.g. {@code speed}
+     * @return Attribute with the given name
+     * @throws IllegalArgumentException If there is no attribute with the given name
+     */
+    public static Attribute parse(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @return Uniform distribution over the range of the attribute
+     */
+    public Distribution getDefaultDistribution() {
+        return Distribution.uniform(min, max);
+    }
+
+    /**
+     * @return Lowest value of the attribute
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return Highest value of the attribute
+     */
+    public double getMax() {
+        return max;
+    }
+}
@@ -3,7 +3,7 @@ package dev.modex.skisprungsimulator.enums;
 import dev.modex.skisprungsimulator.objects.Jumper;
 import dev.modex.skisprungsimulator.utils.CustomRandom;
 
-import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This enum is used to randomly generate first names for {@link Jumper}.
@@ -90,10 +90,38 @@ public enum FirstName {
     Thomas,
     Nikolas;
 
+    /**
+     * Cached copy of {@link FirstName#values()}, which creates a new array on every call
+     */
+    private static final FirstName[] VALUES = values();
+
     /**
      * @return A random first name
      */
     public static FirstName random() {
-        return List.of(values()).get(new CustomRandom().nextInt(values().length - 1));
+        return VALUES[ThreadLocalRandom.current().nextInt(VALUES.length)];
+    }
+
+    /**
+     * @param random Generator used to choose the first name
+     * @return A random first name
+     */
+    public static FirstName random(CustomRandom random) {
+        return VALUES[random.nextInt(VALUES.length - 1)];
+    }
+
+    /**
+     * @param ordinal Ordinal of the first name
+     * @return First name with the given ordinal
+     */
+    public static FirstName of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * @return How many first names there are
+     */
+    public static int count() {
+        return VALUES.length;
     }
 }
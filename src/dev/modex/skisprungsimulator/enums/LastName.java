@@ -3,7 +3,7 @@ package dev.modex.skisprungsimulator.enums;
 import dev.modex.skisprungsimulator.objects.Jumper;
 import dev.modex.skisprungsimulator.utils.CustomRandom;
 
-import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This enum is used to randomly generate last names for {@link Jumper}.
@@ -63,10 +63,38 @@ public enum LastName {
     Riegler,
     Boehm;
 
+    /**
+     * Cached copy of {@link LastName#values()}, which creates a new array on every call
+     */
+    private static final LastName[] VALUES = values();
+
     /**
      * @return A random last name
      */
     public static LastName random() {
-        return List.of(values()).get(new CustomRandom().nextInt(values().length - 1));
+        return VALUES[ThreadLocalRandom.current().nextInt(VALUES.length)];
+    }
+
+    /**
+     * @param random Generator used to choose the last name
+     * @return A random last name
+     */
+    public static LastName random(CustomRandom random) {
+        return VALUES[random.nextInt(VALUES.length - 1)];
+    }
+
+    /**
+     * @param ordinal Ordinal of the last name
+     * @return Last name with the given ordinal
+     */
+    public static LastName of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * @return How many last names there are
+     */
+    public static int count() {
+        return VALUES.length;
     }
 }
@@ -1,9 +1,10 @@
 package dev.modex.skisprungsimulator.enums;
 
 import dev.modex.skisprungsimulator.objects.Ramp;
+import dev.modex.skisprungsimulator.objects.RampProfile;
 import dev.modex.skisprungsimulator.utils.CustomRandom;
 
-import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This enum contains a list of 10 real ski-jumping ramps in Austria.
@@ -95,12 +96,36 @@ public enum Ramps {
         return new Ramp(getName(), getLocation(), getKpoint(), getHillsize());
     }
 
+    /**
+     * Used to initialize a {@link RampProfile} from an {@link Ramps} entry.
+     *
+     * @return Profile with the constants of the ramp
+     */
+    public RampProfile toProfile() {
+        return new RampProfile(this);
+    }
+
+    /**
+     * Cached copy of {@link Ramps#values()}, which creates a new array on every call
+     */
+    private static final Ramps[] VALUES = values();
+
     /**
      * Do not forget to convert into a {@link Ramp}!
      *
      * @return A random ramp entry
      */
     public static Ramps random() {
-        return List.of(values()).get(new CustomRandom().nextInt(values().length - 1));
+        return VALUES[ThreadLocalRandom.current().nextInt(VALUES.length)];
+    }
+
+    /**
+     * Do not forget to convert into a {@link Ramp}!
+     *
+     * @param random Generator used to choose the ramp
+     * @return A random ramp entry
+     */
+    public static Ramps random(CustomRandom random) {
+        return VALUES[random.nextInt(VALUES.length - 1)];
     }
 }
@@ -1,7 +1,11 @@
 package dev.modex.skisprungsimulator.objects;
 
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The {@link Competition} class stores all the information of
@@ -12,34 +16,121 @@ import java.util.stream.Collectors;
 public class Competition {
 
     /**
-     * List of competitors attending the competition
+     * Competitors attending the competition, stored column by column
      */
-    private List<Jumper> competitors;
+    private final Roster roster;
 
     /**
-     * HashMap to store all results of a {@link Jumper}.
-     * Results are stored in the wrapper class {@link Results}
+     * Table storing all results, indexed by the position of the jumper in the
+     * {@link Roster}. Every row is only written by the thread simulating the
+     * jumper, so several workers can add results at the same time.
+     * The table is only allocated once the first result is added, so a competition
+     * whose results are not kept does not need any memory per competitor.
      */
-    private final HashMap<Jumper, Results> results;
+    private volatile ResultTable results;
 
     /**
      * Ramp that the competitors will jump off of
      */
     private Ramp ramp;
 
+    /**
+     * Constants of the ramp used to calculate the distances,
+     * created whenever the ramp is set
+     */
+    private RampProfile profile;
+
+    /**
+     * Scoring of the jumps on the ramp, created whenever the ramp is set
+     */
+    private Scoring scoring;
+
+    /**
+     * Maximum error of the difficulty of the landing,
+     * 0 if it should be calculated exactly
+     */
+    private double difficultyError;
+
+    /**
+     * How the wind changes during a round, null if every
+     * jump should get its own independent wind
+     */
+    private Weather weather;
+
+    /**
+     * How the form of the jumpers changes from round to round,
+     * null if their attributes stay the same in every round
+     */
+    private Form form;
+
+    /**
+     * Form factor of every jumper in the round {@link Competition#formRound},
+     * kept next to the roster so the next round only has to advance it
+     */
+    private double[] formFactors;
+
+    /**
+     * Round the form factors have been calculated for, -1 if there are none
+     */
+    private int formRound = -1;
+
     /**
      * How many rounds the competitors should jump
      */
     private int rounds;
 
+    /**
+     * Seed all jumps of the competition are derived from
+     */
+    private long seed;
+
+    /**
+     * Cut applied after each round, null if everyone advances
+     */
+    private QualificationCut[] cuts = new QualificationCut[0];
+
+    /**
+     * Positions of the competitors taking part in the next round,
+     * null if every competitor takes part
+     */
+    private int[] active;
+
+    /**
+     * Best jumpers of the competition, updated with every result
+     */
+    private Leaderboard leaderboard;
+
+    /**
+     * Listeners following the competition
+     */
+    private final List<CompetitionListener> listeners;
+
+    /**
+     * Rank of every jumper, only kept while there are listeners
+     */
+    private Standings standings;
+
     /**
      * Default constructor initializing default values
      */
     public Competition() {
-        competitors = new ArrayList<>();
-        results = new HashMap<>();
-        ramp = new Ramp();
+        this(new Roster());
+    }
+
+    /**
+     * Overloaded constructor initializing default values
+     * with an existing roster of competitors.
+     *
+     * @param roster Competitors attending the competition
+     */
+    public Competition(Roster roster) {
+        this.roster = roster;
+        results = ResultTable.EMPTY;
+        setRamp(new Ramp());
         rounds = 1;
+        seed = ThreadLocalRandom.current().nextLong();
+        leaderboard = new Leaderboard(3);
+        listeners = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -50,7 +141,8 @@ public class Competition {
      */
     public Competition(List<Jumper> competitors) {
         this();
-        this.competitors.addAll(competitors);
+        for (Jumper competitor : competitors)
+            addJumper(competitor);
     }
 
     /**
@@ -63,54 +155,388 @@ public class Competition {
      */
     public Competition(List<Jumper> competitors, Ramp ramp) {
         this(competitors);
-        this.ramp = ramp;
+        setRamp(ramp);
     }
 
     /**
      * @param jumper Jumper to add to the competition
      */
     public void addJumper(Jumper jumper) {
-        competitors.add(jumper);
+        roster.add(jumper);
+    }
+
+    /**
+     * Adds random competitors without creating {@link Jumper} objects.
+     *
+     * @param size   Amount of random competitors to be added
+     * @param random Generator used to draw the random values
+     * @throws IllegalArgumentException If size is negative
+     * @see Roster#addRandom(CustomRandom)
+     */
+    public void addRandomJumpers(int size, CustomRandom random) {
+        addRandomJumpers(size, random, null);
+    }
+
+    /**
+     * Adds random competitors without creating {@link Jumper} objects,
+     * generated in parallel chunks. The competitors do not depend on
+     * how many threads generate them.
+     *
+     * @param size   Amount of random competitors to be added
+     * @param random Generator used to draw the random values
+     * @param pool   Pool the competitors are generated on, null to generate them on the current thread
+     * @throws IllegalArgumentException If size is negative
+     * @see Roster#addRandom(int, CustomRandom, ForkJoinPool)
+     */
+    public void addRandomJumpers(int size, CustomRandom random, ForkJoinPool pool) {
+        roster.addRandom(size, random, pool);
+    }
+
+    /**
+     * Grows the result table to hold every competitor of the roster and
+     * one result per round. Competitors can not be added while results are added
+     * and a round never has more results than there are rounds, so when several
+     * workers grow the table at the same time no result can get lost. Adding more
+     * results than there are rounds to a competitor grows the table as well,
+     * which is only safe while no other thread adds results.
+     *
+     * @param competitor Position of the competitor that needs a free slot
+     * @return Table holding every competitor
+     */
+    private synchronized ResultTable ensureCapacity(int competitor) {
+        ResultTable results = this.results;
+        if (results.size() < roster.size())
+            results = results.grow(Math.max(roster.size(), results.size() * 2), rounds);
+        if (!results.hasRoom(competitor))
+            results = results.grow(roster.size(), results.getJumps(competitor) * 2);
+
+        return this.results = results;
     }
 
     /**
+     * Saves a result for a given jumper. May be called concurrently
+     * as long as every jumper is only handled by one thread at a time.
+     *
      * @param jumper Jumper, whose result should be saved
      * @param result Result stored for the given jumper
+     * @throws IllegalArgumentException If the jumper is not attending the competition
      */
     public void addResult(Jumper jumper, Double result) {
-        if (results.containsKey(jumper))
-            results.get(jumper).addResult(result);
-        else
-            results.put(jumper, new Results(result));
+        int competitor = roster.indexOf(jumper);
+        if (competitor == -1)
+            throw new IllegalArgumentException();
+
+        addResult(competitor, result);
+    }
+
+    /**
+     * Saves a result for a given competitor, scored with the base style mark
+     * of the competitor from every judge and without compensation.
+     * May be called concurrently as long as every competitor is only
+     * handled by one thread at a time.
+     *
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @param result     Result stored for the given competitor
+     * @see Scoring#NEUTRAL_MARKS
+     */
+    public void addResult(int competitor, double result) {
+        addResult(competitor, result, scoring.points(result, roster.getLanding(competitor), Scoring.NEUTRAL_MARKS, 0));
+    }
+
+    /**
+     * Saves a scored result for a given competitor. May be called concurrently
+     * as long as every competitor is only handled by one thread at a time.
+     * The competitors are ranked by the sum of their points.
+     *
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @param result     Result stored for the given competitor
+     * @param points     Points of the result, see {@link Scoring}
+     */
+    public void addResult(int competitor, double result, double points) {
+        ResultTable results = this.results;
+        if (!results.hasRoom(competitor))
+            results = ensureCapacity(competitor);
+
+        results.add(competitor, result, points);
+        double total = results.getPoints(competitor);
+        leaderboard.offer(competitor, total);
+
+        if (!listeners.isEmpty()) {
+            int rank = standings.update(competitor, total);
+            Jumper jumper = roster.getJumper(competitor);
+            for (CompetitionListener listener : listeners)
+                listener.onJump(jumper, results.getJumps(competitor) - 1, result, rank);
+        }
+    }
+
+    /**
+     * Sets which competitors advance after a round. Jumpers who are
+     * eliminated do not jump in the following rounds, so their results
+     * contain fewer jumps.
+     *
+     * @param round Round after which the cut is made, starting at 0
+     * @param cut   Cut deciding who advances, null to let everyone advance
+     */
+    public void setCut(int round, QualificationCut cut) {
+        if (round >= cuts.length)
+            cuts = Arrays.copyOf(cuts, round + 1);
+
+        cuts[round] = cut;
+    }
+
+    /**
+     * @param round Round after which the cut is made, starting at 0
+     * @return Cut deciding who advances, null if everyone advances
+     */
+    public QualificationCut getCut(int round) {
+        return (round < cuts.length) ? cuts[round] : null;
     }
 
     /**
-     * @return Copy of results HashMap sorted by
-     * best value of each jumper
+     * @return Whether a cut is made after any of the rounds
+     */
+    public boolean hasCuts() {
+        for (int round = 0; round < Math.min(rounds, cuts.length); round++)
+            if (cuts[round] != null)
+                return true;
+
+        return false;
+    }
+
+    /**
+     * Applies the cut of a round, if one has been set, to
+     * the competitors who took part in it.
+     *
+     * @param round Round that has finished, starting at 0
+     * @see QualificationCut#apply(int[], ResultTable)
+     */
+    public void applyCut(int round) {
+        QualificationCut cut = getCut(round);
+        if (cut == null)
+            return;
+
+        int[] competitors = active;
+        if (competitors == null) {
+            competitors = new int[roster.size()];
+            for (int j = 0; j < competitors.length; j++)
+                competitors[j] = j;
+        }
+
+        active = cut.apply(competitors, results);
+    }
+
+    /**
+     * @return Copy of the positions of the competitors taking part
+     * in the next round, null if every competitor takes part
+     */
+    public int[] getActive() {
+        return (active == null) ? null : active.clone();
+    }
+
+    /**
+     * @param active Positions of the competitors taking part in the next round,
+     *               null if every competitor takes part
+     */
+    public void setActive(int[] active) {
+        this.active = (active == null) ? null : active.clone();
+    }
+
+    /**
+     * Takes over the settings of another competition, e.g. when the
+     * competitors are replaced: the ramp, rounds, seed, difficulty error,
+     * weather, form, cuts, leaderboard size and listeners. Results are not copied.
+     *
+     * @param competition Competition whose settings should be copied
+     */
+    public void copySettings(Competition competition) {
+        setRamp(competition.ramp);
+        setRounds(competition.rounds);
+        setSeed(competition.seed);
+        setDifficultyError(competition.difficultyError);
+        setWeather(competition.weather);
+        setForm(competition.form);
+        cuts = competition.cuts.clone();
+        setLeaderboardSize(competition.leaderboard.getCapacity());
+        for (CompetitionListener listener : competition.listeners)
+            addListener(listener);
+    }
+
+    /**
+     * Notifies the listeners that every competitor has jumped in a round.
+     *
+     * @param round Round that has finished, starting at 0
+     */
+    public void endRound(int round) {
+        for (CompetitionListener listener : listeners)
+            listener.onRoundEnd(round, this);
+    }
+
+    /**
+     * Adds a listener following the competition. While there are listeners,
+     * the rank of every jumper is updated with each result, see {@link Standings}.
+     * Jumpers with more points than jumps of twice the hillsize of the current
+     * ramp in every round would share a rank.
+     * The listener receives {@link Jumper} objects, which will be created if necessary.
+     *
+     * @param listener Listener that should be notified
+     */
+    public synchronized void addListener(CompetitionListener listener) {
+        if (standings == null) {
+            standings = new Standings(scoring.getMaxPoints() * rounds);
+            ResultTable results = this.results;
+            for (int j = 0; j < results.size(); j++)
+                if (results.getJumps(j) > 0)
+                    standings.update(j, results.getPoints(j));
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener Listener that should not be notified anymore
+     */
+    public void removeListener(CompetitionListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Looks up the current rank of a jumper in O(log n).
+     * Only available while there are listeners.
+     *
+     * @param jumper Jumper whose rank should be returned
+     * @return Current rank of the jumper, starting at 1, or -1 if the
+     * jumper does not have a result yet or there are no listeners
+     * @see Competition#addListener(CompetitionListener)
+     */
+    public int getRank(Jumper jumper) {
+        int competitor = roster.indexOf(jumper);
+        if (standings == null || competitor == -1)
+            return -1;
+
+        return standings.getRank(competitor);
+    }
+
+    /**
+     * Sorts all results by points. If only the best jumpers are needed,
+     * use {@link Competition#topResults()} instead.
+     * Jumpers with the same points and best result keep the order in which
+     * they were added to the competition, so the ranking does not
+     * depend on how the results were calculated.
+     *
+     * @return Copy of results map sorted by
+     * points of each jumper
      */
     public LinkedHashMap<Jumper, Results> sortResults() {
-        return results.entrySet().stream().sorted(Map.Entry.<Jumper, Results>comparingByValue().reversed()).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e1, LinkedHashMap::new));
+        List<Integer> order = new ArrayList<>(roster.size());
+        ResultTable results = this.results;
+        for (int j = 0; j < results.size(); j++)
+            if (results.getJumps(j) > 0)
+                order.add(j);
+        order.sort((a, b) -> results.compare(b, a));
+
+        LinkedHashMap<Jumper, Results> ret = new LinkedHashMap<>();
+        for (int competitor : order)
+            ret.put(roster.getJumper(competitor), results.toResults(competitor));
+
+        return ret;
+    }
+
+    /**
+     * @return Copy of the results of the jumpers on the leaderboard,
+     * sorted by points of each jumper
+     */
+    public LinkedHashMap<Jumper, Results> topResults() {
+        LinkedHashMap<Jumper, Results> ret = new LinkedHashMap<>();
+        for (int competitor : leaderboard.top())
+            ret.put(roster.getJumper(competitor), results.toResults(competitor));
+
+        return ret;
     }
 
     /**
-     * @return List of competitors in competition
+     * @return Best jumpers of the competition
+     */
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    /**
+     * Replaces the leaderboard with one of a different size.
+     * Results that have already been added will be put on the new leaderboard.
+     *
+     * @param size How many jumpers the leaderboard should hold
+     * @throws IllegalArgumentException If the size is below 1
+     */
+    public void setLeaderboardSize(int size) {
+        leaderboard = new Leaderboard(size);
+        ResultTable results = this.results;
+        for (int j = 0; j < results.size(); j++)
+            if (results.getJumps(j) > 0)
+                leaderboard.offer(j, results.getPoints(j));
+    }
+
+    /**
+     * @return Unmodifiable list of competitors in competition,
+     * {@link Jumper} objects are created when accessed
+     * @see Roster#asList()
      */
     public List<Jumper> getCompetitors() {
-        return competitors;
+        return roster.asList();
+    }
+
+    /**
+     * @return Competitors attending the competition
+     */
+    public Roster getRoster() {
+        return roster;
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @return Copy of the results of the competitor, null if the competitor has not jumped yet
+     */
+    public Results getResults(int competitor) {
+        return results.toResults(competitor);
+    }
+
+    /**
+     * Kept for compatibility, every call copies all results.
+     * Use {@link Competition#getResultTable()} to read results without copying them.
+     *
+     * @return Copy of the stored results, {@link Jumper} objects are created if necessary
+     */
+    public Map<Jumper, Results> getResults() {
+        LinkedHashMap<Jumper, Results> ret = new LinkedHashMap<>();
+        ResultTable results = this.results;
+        for (int j = 0; j < results.size(); j++)
+            if (results.getJumps(j) > 0)
+                ret.put(roster.getJumper(j), results.toResults(j));
+
+        return ret;
     }
 
     /**
-     * @return HashMap with stored results
+     * The table is replaced by a larger one when it grows, so it should
+     * not be kept while results are added.
+     *
+     * @return Table of all results, indexed by the position of the competitor in the {@link Roster}
      */
-    public HashMap<Jumper, Results> getResults() {
+    public ResultTable getResultTable() {
         return results;
     }
 
     /**
+     * Sets the ramp and creates its {@link RampProfile}. Changes made to the ramp
+     * afterwards only take effect once it is set again.
+     *
      * @param ramp Ramp that the competitors will jump off of
      */
     public void setRamp(Ramp ramp) {
         this.ramp = ramp;
+        this.profile = new RampProfile(ramp).withDifficultyTable(difficultyError);
+        this.scoring = new Scoring(profile);
+        // The leaderboard stays empty until the first result has been added
+        if (standings != null && leaderboard.size() == 0)
+            standings = new Standings(scoring.getMaxPoints() * rounds);
     }
 
     /**
@@ -120,6 +546,115 @@ public class Competition {
         return ramp;
     }
 
+    /**
+     * @return Constants of the ramp used to calculate the distances
+     */
+    public RampProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return Scoring of the jumps on the ramp
+     */
+    public Scoring getScoring() {
+        return scoring;
+    }
+
+    /**
+     * Approximates the difficulty of the landing with a {@link DifficultyTable}
+     * instead of calculating it exactly for every jump.
+     *
+     * @param difficultyError Maximum error of the difficulty, 0 to calculate it exactly
+     * @throws IllegalArgumentException If the error is below 0
+     * @see RampProfile#withDifficultyTable(double)
+     */
+    public void setDifficultyError(double difficultyError) {
+        this.profile = new RampProfile(ramp).withDifficultyTable(difficultyError);
+        this.difficultyError = difficultyError;
+    }
+
+    /**
+     * @return Maximum error of the difficulty of the landing, 0 if it is calculated exactly
+     */
+    public double getDifficultyError() {
+        return difficultyError;
+    }
+
+    /**
+     * @return How the wind changes during a round, null if every jump gets its own independent wind
+     */
+    public Weather getWeather() {
+        return weather;
+    }
+
+    /**
+     * @param weather How the wind changes during a round, null if every
+     *                jump should get its own independent wind
+     */
+    public void setWeather(Weather weather) {
+        this.weather = weather;
+    }
+
+    /**
+     * Generates the conditions of a round from the seed of the competition,
+     * so the same round always has the same conditions.
+     *
+     * @param round Round the conditions should be generated for, starting at 0
+     * @param size  How many jumps the round has
+     * @return Conditions of every jump of the round, null if no weather has been set
+     * @see Weather#generate(RampProfile, long, int)
+     */
+    public WindField windField(int round, int size) {
+        if (weather == null)
+            return null;
+
+        // Negative streams are never used by the jumps themselves
+        return weather.generate(profile, CustomRandom.seedOf(seed, ~(long) round), size);
+    }
+
+    /**
+     * @return How the form of the jumpers changes from round to round, null if their attributes stay the same
+     */
+    public Form getForm() {
+        return form;
+    }
+
+    /**
+     * @param form How the form of the jumpers changes from round to round,
+     *             null if their attributes should stay the same in every round
+     */
+    public void setForm(Form form) {
+        this.form = form;
+        this.formFactors = null;
+        this.formRound = -1;
+    }
+
+    /**
+     * Calculates the form factor of every jumper in a round from the seed of
+     * the competition. The factors of the previous round are advanced if they
+     * have been calculated last, otherwise they are calculated from the first round,
+     * e.g. after resuming a competition. The returned array is reused for the
+     * next round, so it should only be read until then.
+     *
+     * @param round Round the factors should be calculated for, starting at 0
+     * @return Form factor of every jumper indexed by their position in the {@link Roster},
+     * null if no form has been set
+     * @see Form#advance(double[], double[], int, long, int)
+     */
+    public synchronized double[] formFactors(int round) {
+        if (form == null)
+            return null;
+
+        int size = roster.size();
+        if (formFactors != null && formFactors.length == size && formRound == round - 1)
+            form.advance(formFactors, formFactors, size, seed, round);
+        else if (formFactors == null || formFactors.length != size || formRound != round)
+            formFactors = form.generate(seed, round, size);
+        formRound = round;
+
+        return formFactors;
+    }
+
     /**
      * @return How many rounds the competitors should jump
      */
@@ -132,5 +667,46 @@ public class Competition {
      */
     public void setRounds(int rounds) {
         this.rounds = rounds;
+        if (standings != null && leaderboard.size() == 0)
+            standings = new Standings(scoring.getMaxPoints() * rounds);
+    }
+
+    /**
+     * @return Seed all jumps of the competition are derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param seed Seed all jumps of the competition are derived from
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.formRound = -1;
+    }
+
+    /**
+     * Every jump of the competition has its own random stream, so the
+     * distance of a jump does not depend on the order in which the
+     * jumps are calculated or on how many threads calculate them.
+     *
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @param round      Round of the jump
+     * @return Seed of the random stream of the given jump
+     */
+    public long jumpSeed(int competitor, int round) {
+        return jumpSeed(seed, competitor, round);
+    }
+
+    /**
+     * @param seed       Seed of the competition
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @param round      Round of the jump
+     * @return Seed of the random stream of the given jump
+     * @see Competition#jumpSeed(int, int)
+     */
+    public static long jumpSeed(long seed, int competitor, int round) {
+        return CustomRandom.seedOf(seed, ((long) round << 32) | (competitor & 0xFFFFFFFFL));
     }
 }
@@ -0,0 +1,33 @@
+package dev.modex.skisprungsimulator.objects;
+
+/**
+ * The {@link CompetitionListener} interface is used to follow a running
+ * {@link Competition}, e.g. to publish live standings after every jump or round.
+ * When the rounds are simulated in parallel, {@link CompetitionListener#onJump(Jumper, int, double, int)}
+ * may be called from several threads at the same time.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ * @see Competition#addListener(CompetitionListener)
+ */
+public interface CompetitionListener {
+
+    /**
+     * Called after a jumper received a result.
+     *
+     * @param jumper   Jumper who jumped
+     * @param round    Round of the jump, starting at 0
+     * @param distance Distance of the jump, 0 if the jumper did not manage to land
+     * @param rank     Current rank of the jumper, starting at 1
+     */
+    default void onJump(Jumper jumper, int round, double distance, int rank) {
+    }
+
+    /**
+     * Called after every competitor has jumped in a round.
+     *
+     * @param round       Round that has finished, starting at 0
+     * @param competition Competition the round belongs to
+     */
+    default void onRoundEnd(int round, Competition competition) {
+    }
+}
@@ -0,0 +1,103 @@
+package dev.modex.skisprungsimulator.objects;
+
+/**
+ * The {@link DifficultyTable} class approximates the difficulty of the landing
+ * on one ramp, see {@link RampProfile#difficulty(double, double)}, by
+ * interpolating linearly between precomputed values instead of calling
+ * {@link Math#tanh(double)} for every jump. The values are indexed by the
+ * distance of the jump and cover every distance up to twice the hillsize,
+ * longer or negative distances are calculated exactly.
+ * <p>
+ * The spacing of the values is derived from the requested error: linear
+ * interpolation is off by at most {@code h^2 / 8 * max|f''|}, where h is the
+ * spacing and f the difficulty as a function of the distance.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public final class DifficultyTable {
+
+    /**
+     * Maximum amount of values a table may hold
+     */
+    private static final int MAX_SIZE = 1 << 22;
+
+    /**
+     * Maximum of the second derivative of tanh, {@code 4 / (3 * sqrt(3))}
+     */
+    private static final double MAX_TANH_CURVATURE = 4 / (3 * Math.sqrt(3));
+
+    /**
+     * Difficulty at every multiple of the spacing
+     */
+    private final double[] values;
+
+    /**
+     * Reciprocal of the spacing of the values in meters
+     */
+    private final double scale;
+
+    /**
+     * Hillsize of the ramp
+     */
+    private final double hillsize;
+
+    /**
+     * Maximum error of the approximated difficulty
+     */
+    private final double maxError;
+
+    /**
+     * @param hillsize Hillsize of the ramp
+     * @param maxError Maximum error of the approximated difficulty
+     * @throws IllegalArgumentException If the hillsize or the error is not above 0
+     *                                  or the error is too small to be stored in a table
+     */
+    public DifficultyTable(double hillsize, double maxError) {
+        if (!(hillsize > 0) || !(maxError > 0))
+            throw new IllegalArgumentException();
+
+        double slope = 5 / (1.3 * hillsize);
+        double curvature = 5 * slope * slope * MAX_TANH_CURVATURE;
+        double spacing = Math.sqrt(8 * maxError / curvature);
+
+        double size = Math.ceil(2 * hillsize / spacing) + 2;
+        if (size > MAX_SIZE)
+            throw new IllegalArgumentException("Error too small: " + maxError);
+
+        this.values = new double[(int) size];
+        this.scale = 1 / spacing;
+        this.hillsize = hillsize;
+        this.maxError = maxError;
+
+        for (int j = 0; j < values.length; j++)
+            values[j] = RampProfile.difficulty(j * spacing, hillsize);
+    }
+
+    /**
+     * @param distance Distance of the flight
+     * @return Approximated difficulty of the landing between 0 and 10
+     */
+    public double difficulty(double distance) {
+        double position = distance * scale;
+        if (!(position >= 0 && position < values.length - 1))
+            return RampProfile.difficulty(distance, hillsize);
+
+        int index = (int) position;
+        double fraction = position - index;
+        return values[index] + (values[index + 1] - values[index]) * fraction;
+    }
+
+    /**
+     * @return Maximum error of the approximated difficulty
+     */
+    public double getMaxError() {
+        return maxError;
+    }
+
+    /**
+     * @return How many values are stored in the table
+     */
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,277 @@
+package dev.modex.skisprungsimulator.objects;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The {@link Distribution} class describes how an attribute of random jumpers
+ * is distributed. Every distribution is sampled by its quantile function from a
+ * single uniform random value, so a jumper always draws the same amount of values
+ * no matter which distributions are used and the generators of a {@link Roster}
+ * can skip over jumpers. The uniform distribution is calculated exactly.
+ * Normal and beta distributions are limited to a range, their density is integrated
+ * into a table of the cumulative distribution, which is searched for the random value.
+ * Empirical distributions interpolate between the sorted values of a sample.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public final class Distribution {
+
+    /**
+     * How many cells the density is integrated over
+     */
+    private static final int STEPS = 4096;
+
+    /**
+     * Lowest value of the distribution
+     */
+    private final double min;
+
+    /**
+     * Highest value of the distribution
+     */
+    private final double max;
+
+    /**
+     * Sorted values of the sample of an empirical distribution, null otherwise
+     */
+    private final double[] quantiles;
+
+    /**
+     * Cumulative distribution at equal steps from min to max, from 0 to 1,
+     * null if the distribution is uniform or empirical
+     */
+    private final double[] cumulative;
+
+    /**
+     * @param min        Lowest value of the distribution
+     * @param max        Highest value of the distribution
+     * @param quantiles  Sorted values of the sample of an empirical distribution, null otherwise
+     * @param cumulative Cumulative distribution at equal steps from min to max, null if there is none
+     */
+    private Distribution(double min, double max, double[] quantiles, double[] cumulative) {
+        this.min = min;
+        this.max = max;
+        this.quantiles = quantiles;
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * @param min Lowest value
+     * @param max Highest value
+     * @return Uniform distribution between min and max
+     * @throws IllegalArgumentException If min is above max
+     */
+    public static Distribution uniform(double min, double max) {
+        if (!(min <= max))
+            throw new IllegalArgumentException();
+
+        return new Distribution(min, max, null, null);
+    }
+
+    /**
+     * @param mean      Mean of the normal distribution
+     * @param deviation Standard deviation of the normal distribution
+     * @param min       Lowest value
+     * @param max       Highest value
+     * @return Normal distribution limited to the range between min and max
+     * @throws IllegalArgumentException If the deviation is not above 0 or min is not below max
+     */
+    public static Distribution normal(double mean, double deviation, double min, double max) {
+        if (!(deviation > 0))
+            throw new IllegalArgumentException();
+
+        return fromDensity(x -> Math.exp(-(x - mean) * (x - mean) / (2 * deviation * deviation)), min, max);
+    }
+
+    /**
+     * @param alpha First shape parameter of the beta distribution
+     * @param beta  Second shape parameter of the beta distribution
+     * @param min   Value the beta distribution's 0 is mapped to
+     * @param max   Value the beta distribution's 1 is mapped to
+     * @return Beta distribution scaled to the range between min and max
+     * @throws IllegalArgumentException If a shape parameter is not above 0 or min is not below max
+     */
+    public static Distribution beta(double alpha, double beta, double min, double max) {
+        if (!(alpha > 0) || !(beta > 0))
+            throw new IllegalArgumentException();
+
+        return fromDensity(x -> {
+            double t = (x - min) / (max - min);
+            return Math.pow(t, alpha - 1) * Math.pow(1 - t, beta - 1);
+        }, min, max);
+    }
+
+    /**
+     * @param values Sample the distribution is taken from
+     * @param min    Lowest value the sample may contain
+     * @param max    Highest value the sample may contain
+     * @return Empirical distribution of the sample
+     * @throws IllegalArgumentException If the sample is empty or contains a value that is not between min and max
+     */
+    public static Distribution empirical(double[] values, double min, double max) {
+        if (values.length == 0)
+            throw new IllegalArgumentException("The sample is empty");
+
+        double[] quantiles = Arrays.copyOf(values, Math.max(2, values.length));
+        if (values.length == 1)
+            quantiles[1] = values[0];
+        for (double value : quantiles)
+            if (!(value >= min && value <= max))
+                throw new IllegalArgumentException("Value " + value + " of the sample is not between " + min + " and " + max);
+
+        Arrays.sort(quantiles);
+        return new Distribution(quantiles[0], quantiles[quantiles.length - 1], quantiles, null);
+    }
+
+    /**
+     * Loads an empirical distribution from a text file with one value per line,
+     * empty lines are skipped.
+     *
+     * @param path File the sample should be read from
+     * @param min  Lowest value the sample may contain
+     * @param max  Highest value the sample may contain
+     * @return Empirical distribution of the sample
+     * @throws IOException              If the file could not be read
+     * @throws IllegalArgumentException If a line is not a number between min and max or the file is empty
+     */
+    public static Distribution load(Path path, double min, double max) throws IOException {
+        List<String> lines = Files.readAllLines(path);
+        double[] values = new double[lines.size()];
+        int size = 0;
+        for (int number = 1; number <= lines.size(); number++) {
+            String line = lines.get(number - 1).trim();
+            if (line.isEmpty())
+                continue;
+
+            try {
+                values[size] = Double.parseDouble(line);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value in line " + number + " of " + path + ": " + line, e);
+            }
+
+            if (!(values[size] >= min && values[size] <= max))
+                throw new IllegalArgumentException("Invalid value in line " + number + " of " + path + ", not between " + min + " and " + max + ": " + line);
+            size++;
+        }
+
+        if (size == 0)
+            throw new IllegalArgumentException("The sample is empty: " + path);
+
+        return empirical(Arrays.copyOf(values, size), min, max);
+    }
+
+    /**
+     * Parses a distribution, e.g. {@code uniform}, {@code normal:6:1.5}
+     * for a mean of 6 and a standard deviation of 1.5, {@code beta:2:5}
+     * or {@code empirical:speeds.txt}. All distributions are limited to the given
+     * range, the sample of an empirical distribution may not contain values outside of it.
+     *
+     * @param distribution Text describing the distribution
+     * @param min          Lowest value of the range
+     * @param max          Highest value of the range
+     * @return Parsed distribution
+     * @throws IOException              If the sample of an empirical distribution could not be read
+     * @throws IllegalArgumentException If the text is not a valid distribution or a value of the sample is out of range
+     */
+    public static Distribution parse(String distribution, double min, double max) throws IOException {
+        String[] parts = distribution.split(":", 2);
+        String[] parameters = (parts.length > 1) ? parts[1].split(":") : new String[0];
+
+        switch (parts[0]) {
+            case "uniform":
+                if (parameters.length == 0)
+                    return uniform(min, max);
+                break;
+            case "normal":
+                if (parameters.length == 2)
+                    return normal(Double.parseDouble(parameters[0]), Double.parseDouble(parameters[1]), min, max);
+                break;
+            case "beta":
+                if (parameters.length == 2)
+                    return beta(Double.parseDouble(parameters[0]), Double.parseDouble(parameters[1]), min, max);
+                break;
+            case "empirical":
+                if (parts.length > 1)
+                    return load(Path.of(parts[1]), min, max);
+                break;
+        }
+
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Integrates the density of a distribution with the midpoint rule.
+     *
+     * @param density Density of the distribution, does not need to be normalized
+     * @param min     Lowest value
+     * @param max     Highest value
+     * @return Distribution with the given density between min and max
+     * @throws IllegalArgumentException If min is not below max or the density is not positive anywhere
+     */
+    private static Distribution fromDensity(DoubleUnaryOperator density, double min, double max) {
+        if (!(min < max))
+            throw new IllegalArgumentException();
+
+        double width = (max - min) / STEPS;
+        double[] cumulative = new double[STEPS + 1];
+        for (int c = 0; c < STEPS; c++)
+            cumulative[c + 1] = cumulative[c] + density.applyAsDouble(min + (c + 0.5) * width);
+
+        double total = cumulative[STEPS];
+        if (!(total > 0) || Double.isInfinite(total))
+            throw new IllegalArgumentException();
+
+        for (int c = 0; c <= STEPS; c++)
+            cumulative[c] /= total;
+
+        return new Distribution(min, max, null, cumulative);
+    }
+
+    /**
+     * @param uniform Uniform random value between inclusively 0 and exclusively 1
+     * @return Value of the distribution at the given quantile
+     */
+    public double sample(double uniform) {
+        if (cumulative != null) {
+            // Finds the cell whose cumulative distribution contains the value
+            int low = 0, high = cumulative.length - 1;
+            while (high - low > 1) {
+                int middle = (low + high) >>> 1;
+                if (cumulative[middle] <= uniform)
+                    low = middle;
+                else
+                    high = middle;
+            }
+
+            double cell = low + (uniform - cumulative[low]) / (cumulative[low + 1] - cumulative[low]);
+            return min + cell * (max - min) / (cumulative.length - 1);
+        }
+
+        if (quantiles != null) {
+            double position = uniform * (quantiles.length - 1);
+            int index = (int) position;
+            return quantiles[index] + (position - index) * (quantiles[index + 1] - quantiles[index]);
+        }
+
+        return min + uniform * (max - min);
+    }
+
+    /**
+     * @return Lowest value of the distribution
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return Highest value of the distribution
+     */
+    public double getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,129 @@
+package dev.modex.skisprungsimulator.objects;
+
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+
+/**
+ * The {@link Form} class describes how the form of the jumpers changes
+ * from round to round. The form of a jumper is a factor their speed, power
+ * and timing are multiplied with in a round. It drifts around a target that
+ * declines with every round because of fatigue, half of the deviation of a round
+ * is carried over into the next one. The volatility decides how far the
+ * form of a jumper varies and the fatigue how much of their attributes
+ * they lose per round. Factors never drop below 0.1.
+ * <p>
+ * The factors of all jumpers are kept in a single primitive array next to the
+ * {@link Roster} and advanced in bulk before a round, so a jump only reads one
+ * value. The factors of a round only depend on the seed and the factors of
+ * the previous round, so they do not depend on how the jumps are calculated.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Form {
+
+    /**
+     * Share of the deviation of a round that is carried over into the next one
+     */
+    private static final double PERSISTENCE = 0.5;
+
+    /**
+     * Highest volatility and fatigue that are accepted
+     */
+    private static final double MAX_VALUE = 0.2;
+
+    /**
+     * Lowest factor of a jumper
+     */
+    private static final double MIN_FACTOR = 0.1;
+
+    /**
+     * Standard deviation of the factor around its target
+     */
+    private final double volatility;
+
+    /**
+     * Share of the attributes lost per round
+     */
+    private final double fatigue;
+
+    /**
+     * @param volatility Standard deviation of the factor around its target, between 0 and 0.2
+     * @param fatigue    Share of the attributes lost per round, between 0 and 0.2
+     * @throws IllegalArgumentException If a value is out of range
+     */
+    public Form(double volatility, double fatigue) {
+        if (!(volatility >= 0 && volatility <= MAX_VALUE) || !(fatigue >= 0 && fatigue <= MAX_VALUE))
+            throw new IllegalArgumentException();
+
+        this.volatility = volatility;
+        this.fatigue = fatigue;
+    }
+
+    /**
+     * Parses a form, e.g. {@code 0.05:0.02} for a volatility of 5% and a fatigue of 2% per round.
+     *
+     * @param form Text describing the form
+     * @return Parsed form
+     * @throws IllegalArgumentException If the text is not a valid form
+     */
+    public static Form parse(String form) {
+        int separator = form.indexOf(':');
+        if (separator == -1)
+            throw new IllegalArgumentException();
+
+        return new Form(Double.parseDouble(form.substring(0, separator)), Double.parseDouble(form.substring(separator + 1)));
+    }
+
+    /**
+     * Calculates the factors of a round from those of the previous round.
+     *
+     * @param previous Factors of the previous round, ignored in the first round,
+     *                 may be the same array as factors
+     * @param factors  Array the factors of the round are written to
+     * @param size     How many jumpers there are
+     * @param seed     Seed of the competition
+     * @param round    Round the factors are calculated for, starting at 0
+     */
+    public void advance(double[] previous, double[] factors, int size, long seed, int round) {
+        // Streams below those of the weather are never used otherwise
+        CustomRandom random = new CustomRandom(CustomRandom.seedOf(seed, Long.MIN_VALUE + round));
+        double target = Math.pow(1 - fatigue, round);
+        double previousTarget = target / (1 - fatigue);
+        // Uniform noise with a variance of 1 keeps the deviation at the volatility
+        double noise = volatility * Math.sqrt(3) * ((round == 0) ? 1 : Math.sqrt(1 - PERSISTENCE * PERSISTENCE));
+
+        for (int j = 0; j < size; j++) {
+            double deviation = (round == 0) ? 0 : previous[j] - previousTarget;
+            factors[j] = Math.max(MIN_FACTOR, target + PERSISTENCE * deviation + noise * random.nextDouble(-1, 1));
+        }
+    }
+
+    /**
+     * Calculates the factors of a round by advancing them from the first round.
+     *
+     * @param seed  Seed of the competition
+     * @param round Round the factors are calculated for, starting at 0
+     * @param size  How many jumpers there are
+     * @return Factor of every jumper in the round
+     */
+    public double[] generate(long seed, int round, int size) {
+        double[] factors = new double[size];
+        for (int r = 0; r <= round; r++)
+            advance(factors, factors, size, seed, r);
+
+        return factors;
+    }
+
+    /**
+     * @return Standard deviation of the factor around its target
+     */
+    public double getVolatility() {
+        return volatility;
+    }
+
+    /**
+     * @return Share of the attributes lost per round
+     */
+    public double getFatigue() {
+        return fatigue;
+    }
+}
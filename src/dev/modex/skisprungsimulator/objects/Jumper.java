@@ -47,13 +47,23 @@ public class Jumper extends Nameable {
      * be a double in the range of 6 to 10.
      */
     public Jumper() {
-        CustomRandom customRandom = new CustomRandom();
-        setName(FirstName.random().toString() + " " + LastName.random().toString());
-        setAge(customRandom.nextInt(20, 50));
-        setSpeed(customRandom.nextDouble(1, 10));
-        setPower(customRandom.nextDouble(1, 10));
-        setTiming(customRandom.nextDouble(1, 10));
-        setLanding(customRandom.nextDouble(6, 10));
+        this(new CustomRandom());
+    }
+
+    /**
+     * Overloaded constructor will initialize a {@link Jumper} with random
+     * values as described in {@link Jumper#Jumper()}, drawn from the given
+     * generator. The same seed will always result in the same jumper.
+     *
+     * @param random Generator used to draw the random values
+     */
+    public Jumper(CustomRandom random) {
+        setName(FirstName.random(random).toString() + " " + LastName.random(random).toString());
+        setAge(random.nextInt(20, 50));
+        setSpeed(random.nextDouble(1, 10));
+        setPower(random.nextDouble(1, 10));
+        setTiming(random.nextDouble(1, 10));
+        setLanding(random.nextDouble(6, 10));
     }
 
     /**
@@ -0,0 +1,146 @@
+package dev.modex.skisprungsimulator.objects;
+
+import java.util.Arrays;
+
+/**
+ * The {@link Leaderboard} class keeps the best competitors of a running
+ * competition, sorted by their best result. It is updated whenever
+ * a result is added, so the top competitors can be queried at any time
+ * without sorting all results. Competitors with the same best result
+ * are ordered by who reached it first. Competitors are referenced by
+ * their position in the {@link Roster}. Lower results of a competitor
+ * who is already on the leaderboard are ignored, so it can also be
+ * offered every single jump instead of the best results.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Leaderboard {
+
+    /**
+     * Positions of the competitors on the leaderboard, sorted descendingly
+     */
+    private final int[] competitors;
+
+    /**
+     * Best result of each competitor at the time it was added to the leaderboard
+     */
+    private final double[] best;
+
+    /**
+     * How many competitors are on the leaderboard
+     */
+    private int size;
+
+    /**
+     * Best result a competitor needs to beat to get on the leaderboard.
+     * Read without locking to skip most results.
+     */
+    private volatile double threshold = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param capacity How many competitors the leaderboard should hold
+     * @throws IllegalArgumentException If the capacity is below 1
+     */
+    public Leaderboard(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException();
+
+        competitors = new int[capacity];
+        best = new double[capacity];
+    }
+
+    /**
+     * Updates the leaderboard after a competitor received a result.
+     * May be called concurrently, results that do not change the
+     * leaderboard return without locking.
+     *
+     * @param competitor Position of the competitor
+     * @param value      Best result of the competitor
+     */
+    public void offer(int competitor, double value) {
+        if (value <= threshold)
+            return;
+
+        synchronized (this) {
+            update(competitor, value);
+        }
+    }
+
+    /**
+     * Inserts the competitor or moves them up if they are already on the leaderboard.
+     *
+     * @param competitor Position of the competitor
+     * @param value      Best result of the competitor
+     */
+    private void update(int competitor, double value) {
+        int pos = -1;
+        for (int j = 0; j < size; j++) {
+            if (competitors[j] == competitor) {
+                pos = j;
+                break;
+            }
+        }
+
+        if (pos != -1 && best[pos] >= value)
+            return;
+
+        if (pos == -1) {
+            if (size < competitors.length)
+                pos = size++;
+            else if (value > best[size - 1])
+                pos = size - 1;
+            else
+                return;
+        }
+
+        while (pos > 0 && best[pos - 1] < value) {
+            competitors[pos] = competitors[pos - 1];
+            best[pos] = best[pos - 1];
+            pos--;
+        }
+
+        competitors[pos] = competitor;
+        best[pos] = value;
+
+        if (size == competitors.length)
+            threshold = best[size - 1];
+    }
+
+    /**
+     * Removes all competitors from the leaderboard.
+     */
+    public synchronized void clear() {
+        size = 0;
+        threshold = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * @return How many competitors the leaderboard can hold
+     */
+    public int getCapacity() {
+        return competitors.length;
+    }
+
+    /**
+     * @return How many competitors are on the leaderboard
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return Copy of the positions of the competitors on the leaderboard,
+     * sorted by best value of each competitor
+     */
+    public synchronized int[] top() {
+        return Arrays.copyOf(competitors, size);
+    }
+
+    /**
+     * @return Copy of the best results of the competitors on the leaderboard,
+     * in the same order as {@link Leaderboard#top()}
+     */
+    public synchronized double[] values() {
+        return Arrays.copyOf(best, size);
+    }
+}
@@ -0,0 +1,147 @@
+package dev.modex.skisprungsimulator.objects;
+
+import java.util.Arrays;
+
+/**
+ * The {@link QualificationCut} class decides which competitors advance to the
+ * next round of a {@link Competition}, either the N competitors with the most points
+ * or everyone whose best jump reached a distance. For a top N cut the points of the
+ * N-th competitor are found with quickselect in O(n) instead of sorting all results,
+ * competitors sharing those points all advance. Disqualified competitors never advance.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class QualificationCut {
+
+    /**
+     * How many competitors advance, 0 if not limited
+     */
+    private final int top;
+
+    /**
+     * Best jump a competitor needs to advance
+     */
+    private final double minDistance;
+
+    /**
+     * @param top         How many competitors advance, 0 if not limited
+     * @param minDistance Best jump a competitor needs to advance
+     */
+    private QualificationCut(int top, double minDistance) {
+        this.top = top;
+        this.minDistance = minDistance;
+    }
+
+    /**
+     * @param top How many competitors advance
+     * @return Cut letting the competitors with the most points advance
+     * @throws IllegalArgumentException If top is below 1
+     */
+    public static QualificationCut top(int top) {
+        if (top < 1)
+            throw new IllegalArgumentException();
+
+        return new QualificationCut(top, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * @param minDistance Best jump a competitor needs to advance in meters
+     * @return Cut letting every competitor advance who reached the distance
+     */
+    public static QualificationCut distance(double minDistance) {
+        return new QualificationCut(0, minDistance);
+    }
+
+    /**
+     * Parses a cut, e.g. {@code 30} for the 30 competitors with the most points
+     * or {@code 120m} for every competitor who jumped at least 120 meters.
+     *
+     * @param cut Text describing the cut
+     * @return Parsed cut
+     * @throws IllegalArgumentException If the text is not a valid cut
+     */
+    public static QualificationCut parse(String cut) {
+        if (cut.endsWith("m"))
+            return distance(Double.parseDouble(cut.substring(0, cut.length() - 1)));
+
+        return top(Integer.parseInt(cut));
+    }
+
+    /**
+     * Selects the competitors advancing to the next round.
+     *
+     * @param competitors Positions of the competitors who took part in the round
+     * @param results     Results of every competitor, indexed by their position
+     * @return Positions of the advancing competitors, in the same order as before
+     */
+    public int[] apply(int[] competitors, ResultTable results) {
+        // Competitors who can not advance get no points at all
+        double[] points = new double[competitors.length];
+        for (int j = 0; j < competitors.length; j++) {
+            int competitor = competitors[j];
+            boolean eligible = !results.disqualified(competitor) && results.getBest(competitor) >= minDistance;
+            points[j] = eligible ? results.getPoints(competitor) : Double.NEGATIVE_INFINITY;
+        }
+
+        double threshold = Double.NEGATIVE_INFINITY;
+        if (top > 0 && top < competitors.length)
+            threshold = select(points.clone(), top - 1);
+
+        int[] ret = new int[competitors.length];
+        int size = 0;
+        for (int j = 0; j < competitors.length; j++)
+            if (points[j] >= threshold && points[j] != Double.NEGATIVE_INFINITY)
+                ret[size++] = competitors[j];
+
+        return Arrays.copyOf(ret, size);
+    }
+
+    /**
+     * Finds the k-th largest value with quickselect, the array is reordered.
+     *
+     * @param values Values to search, reordered afterwards
+     * @param k      Rank of the value, starting at 0 for the largest
+     * @return The k-th largest value
+     */
+    static double select(double[] values, int k) {
+        int left = 0, right = values.length - 1;
+        while (left < right) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left, j = right;
+            while (i <= j) {
+                while (values[i] > pivot)
+                    i++;
+                while (values[j] < pivot)
+                    j--;
+                if (i <= j) {
+                    double swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+
+            if (k <= j)
+                right = j;
+            else if (k >= i)
+                left = i;
+            else
+                return values[k];
+        }
+
+        return values[k];
+    }
+
+    /**
+     * @return How many competitors advance, 0 if not limited
+     */
+    public int getTop() {
+        return top;
+    }
+
+    /**
+     * @return Best jump a competitor needs to advance
+     */
+    public double getMinDistance() {
+        return minDistance;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.modex.skisprungsimulator.objects;
 
 import dev.modex.skisprungsimulator.enums.Ramps;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
 import dev.modex.skisprungsimulator.utils.Nameable;
 
 /**
@@ -34,6 +35,16 @@ public class Ramp extends Nameable {
         this(Ramps.random().toRamp());
     }
 
+    /**
+     * Overloaded constructor will initialize a {@link Ramp}
+     * that has been randomly chosen by {@link Ramps#random(CustomRandom)}
+     *
+     * @param random Generator used to choose the ramp
+     */
+    public Ramp(CustomRandom random) {
+        this(Ramps.random(random).toRamp());
+    }
+
     /**
      * Copy constructor
      *
@@ -0,0 +1,347 @@
+package dev.modex.skisprungsimulator.objects;
+
+import dev.modex.skisprungsimulator.enums.Ramps;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+
+/**
+ * The {@link RampProfile} class holds the values of a {@link Ramp} that are
+ * needed to calculate the distance of a jump, together with the constants
+ * derived from them. It is created once when the ramp of a {@link Competition}
+ * is set, so a jump only reads final fields instead of calling getters
+ * on the ramp and recomputing the constants every time.
+ * <p>
+ * The distance itself is calculated by the static method
+ * {@link RampProfile#distance(double, double, double, double, double, double, double, double, double, double, double, double)},
+ * which only works on primitives and draws no random values. The arithmetic
+ * is evaluated in the same order as before, so every seed still produces
+ * exactly the same distances. Optionally, the difficulty of the landing can be
+ * taken from a {@link DifficultyTable} instead of calling {@link Math#tanh(double)},
+ * see {@link RampProfile#withDifficultyTable(double)}.
+ * <p>
+ * The profile also holds the values needed for changing conditions:
+ * how many meters a gate is worth, the meter value of the hill and the
+ * compensation points for wind and gate, see {@link RampProfile#compensation(double, int)}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public final class RampProfile {
+
+    /**
+     * KPoint of the ramp
+     */
+    private final double kpoint;
+
+    /**
+     * Hillsize of the ramp
+     */
+    private final double hillsize;
+
+    /**
+     * Meters gained per m/s of wind
+     */
+    private final double windFactor;
+
+    /**
+     * Meters gained per gate the start is moved up
+     */
+    private final double gateFactor;
+
+    /**
+     * Points awarded per meter, depending on the kpoint
+     */
+    private final double meterValue;
+
+    /**
+     * Table the difficulty of the landing is approximated with,
+     * null if it should be calculated exactly
+     */
+    private final DifficultyTable table;
+
+    /**
+     * Tailwind is compensated with more points than headwind of the same strength
+     */
+    private static final double TAILWIND_FACTOR = 1.21;
+
+    /**
+     * @param kpoint   KPoint of the ramp
+     * @param hillsize Hillsize of the ramp
+     */
+    public RampProfile(double kpoint, double hillsize) {
+        this(kpoint, hillsize, null);
+    }
+
+    /**
+     * @param kpoint   KPoint of the ramp
+     * @param hillsize Hillsize of the ramp
+     * @param table    Table the difficulty of the landing is approximated with, null to calculate it exactly
+     */
+    private RampProfile(double kpoint, double hillsize, DifficultyTable table) {
+        this.kpoint = kpoint;
+        this.hillsize = hillsize;
+        this.windFactor = (hillsize - 36) / 20;
+        this.gateFactor = hillsize * 0.012;
+        this.meterValue = meterValue(kpoint);
+        this.table = table;
+    }
+
+    /**
+     * Overloaded constructor taking the values of a ramp. Changes made
+     * to the ramp afterwards are not applied to the profile.
+     *
+     * @param ramp Ramp the profile should be created for
+     */
+    public RampProfile(Ramp ramp) {
+        this(ramp.getKpoint(), ramp.getHillsize());
+    }
+
+    /**
+     * Overloaded constructor taking the values of a predefined ramp
+     *
+     * @param ramp Ramp the profile should be created for
+     */
+    public RampProfile(Ramps ramp) {
+        this(ramp.getKpoint(), ramp.getHillsize());
+    }
+
+    /**
+     * Creates a copy of the profile that approximates the difficulty of the
+     * landing with a {@link DifficultyTable} instead of calling {@link Math#tanh(double)}.
+     * Jumpers whose landing value is closer to the difficulty than the error
+     * may land where they would have been disqualified or the other way around.
+     *
+     * @param maxError Maximum error of the difficulty, 0 to calculate it exactly
+     * @return Profile using the table
+     * @throws IllegalArgumentException If maxError is below 0
+     */
+    public RampProfile withDifficultyTable(double maxError) {
+        if (maxError < 0)
+            throw new IllegalArgumentException();
+
+        return new RampProfile(kpoint, hillsize, (maxError == 0) ? null : new DifficultyTable(hillsize, maxError));
+    }
+
+    /**
+     * Draws the random values of a jump and calculates its distance.
+     * The values are drawn in this order: wind, speed, jumping power, timing, landing.
+     *
+     * @param speed   Speed of the jumper
+     * @param power   Jumping power of the jumper
+     * @param timing  Timing of the jumper
+     * @param landing Landing value of the jumper
+     * @param random  Generator seeded for this jump
+     * @return Distance of the jump, 0 if the jumper did not manage to land
+     */
+    public double distance(double speed, double power, double timing, double landing, CustomRandom random) {
+        return distance(speed, power, timing, landing, random.nextDouble(-3, 3), random);
+    }
+
+    /**
+     * Draws the random values of a jump with wind that has already been drawn
+     * and calculates its distance.
+     *
+     * @param speed   Speed of the jumper
+     * @param power   Jumping power of the jumper
+     * @param timing  Timing of the jumper
+     * @param landing Landing value of the jumper
+     * @param wind    Wind during the jump in m/s, between -3 and 3
+     * @param random  Generator seeded for this jump, the wind has to be its first value
+     * @return Distance of the jump, 0 if the jumper did not manage to land
+     */
+    public double distance(double speed, double power, double timing, double landing, double wind, CustomRandom random) {
+        double speedVariance = random.nextDouble(-2, 2);
+        double powerVariance = random.nextDouble(-2, 2);
+        double timingVariance = random.nextDouble(-2, 2);
+        double landingVariance = random.nextDouble(0, 2);
+        if (table == null)
+            return distance(kpoint, hillsize, windFactor, speed, power, timing, landing, wind, speedVariance, powerVariance, timingVariance, landingVariance);
+
+        double distance = flightDistance(kpoint, hillsize, windFactor, speed, power, timing, wind, speedVariance, powerVariance, timingVariance);
+        return (clamp(landing + landingVariance) > table.difficulty(distance)) ? distance : 0d;
+    }
+
+    /**
+     * Draws the random values of a jump under given conditions and calculates
+     * its distance. The first value of the generator is skipped, so a jump
+     * draws the same variances as without the conditions.
+     *
+     * @param speed   Speed of the jumper
+     * @param power   Jumping power of the jumper
+     * @param timing  Timing of the jumper
+     * @param landing Landing value of the jumper
+     * @param wind    Wind during the jump in m/s, between -3 and 3
+     * @param gate    Gates the start has been moved up, negative if it has been moved down
+     * @param random  Generator seeded for this jump
+     * @return Distance of the jump, 0 if the jumper did not manage to land
+     * @see WindField
+     */
+    public double distance(double speed, double power, double timing, double landing, double wind, int gate, CustomRandom random) {
+        double speedVariance = random.skip(1).nextDouble(-2, 2);
+        double powerVariance = random.nextDouble(-2, 2);
+        double timingVariance = random.nextDouble(-2, 2);
+        double landingVariance = random.nextDouble(0, 2);
+        // Moving the start shifts the whole jump, just like moving the kpoint
+        double kpoint = this.kpoint + gate * gateFactor;
+        if (table == null)
+            return distance(kpoint, hillsize, windFactor, speed, power, timing, landing, wind, speedVariance, powerVariance, timingVariance, landingVariance);
+
+        double distance = flightDistance(kpoint, hillsize, windFactor, speed, power, timing, wind, speedVariance, powerVariance, timingVariance);
+        return (clamp(landing + landingVariance) > table.difficulty(distance)) ? distance : 0d;
+    }
+
+    /**
+     * Calculates the points a jumper is compensated with for the conditions
+     * of their jump. Meters gained from headwind or a higher gate are taken
+     * away, meters lost to tailwind or a lower gate are given back.
+     *
+     * @param wind Wind during the jump in m/s, positive if it helped the jumper
+     * @param gate Gates the start has been moved up, negative if it has been moved down
+     * @return Compensation points, positive if the conditions were unfavourable
+     */
+    public double compensation(double wind, int gate) {
+        double windPoints = wind * windFactor * meterValue;
+        if (wind < 0)
+            windPoints *= TAILWIND_FACTOR;
+
+        return -windPoints - gate * gateFactor * meterValue;
+    }
+
+    /**
+     * Looks up how many points a meter is worth on a hill, following the FIS rules.
+     *
+     * @param kpoint KPoint of the hill
+     * @return Points per meter
+     */
+    public static double meterValue(double kpoint) {
+        if (kpoint < 25)
+            return 4.8;
+        if (kpoint < 30)
+            return 4.4;
+        if (kpoint < 35)
+            return 4.0;
+        if (kpoint < 40)
+            return 3.6;
+        if (kpoint < 50)
+            return 3.2;
+        if (kpoint < 60)
+            return 2.8;
+        if (kpoint < 70)
+            return 2.4;
+        if (kpoint < 80)
+            return 2.2;
+        if (kpoint < 100)
+            return 2.0;
+        if (kpoint < 170)
+            return 1.8;
+        return 1.2;
+    }
+
+    /**
+     * Calculates the distance of a jump from primitives only, no random
+     * values are drawn and nothing is allocated. Every attribute gets its
+     * variance added and is kept between 0 and 10.
+     *
+     * @param kpoint          KPoint of the ramp
+     * @param hillsize        Hillsize of the ramp
+     * @param windFactor      Meters gained per m/s of wind, {@code (hillsize - 36) / 20}
+     * @param speed           Speed of the jumper
+     * @param power           Jumping power of the jumper
+     * @param timing          Timing of the jumper
+     * @param landing         Landing value of the jumper
+     * @param wind            Wind during the jump in m/s
+     * @param speedVariance   Variance added to the speed
+     * @param powerVariance   Variance added to the jumping power
+     * @param timingVariance  Variance added to the timing
+     * @param landingVariance Variance added to the landing value
+     * @return Distance of the jump, 0 if the jumper did not manage to land
+     */
+    public static double distance(double kpoint, double hillsize, double windFactor, double speed, double power, double timing, double landing,
+                                  double wind, double speedVariance, double powerVariance, double timingVariance, double landingVariance) {
+        double distance = flightDistance(kpoint, hillsize, windFactor, speed, power, timing, wind, speedVariance, powerVariance, timingVariance);
+        return (clamp(landing + landingVariance) > difficulty(distance, hillsize)) ? distance : 0d;
+    }
+
+    /**
+     * Calculates how far a jumper flies, regardless of whether they manage to land.
+     *
+     * @param kpoint         KPoint of the ramp
+     * @param hillsize       Hillsize of the ramp
+     * @param windFactor     Meters gained per m/s of wind, {@code (hillsize - 36) / 20}
+     * @param speed          Speed of the jumper
+     * @param power          Jumping power of the jumper
+     * @param timing         Timing of the jumper
+     * @param wind           Wind during the jump in m/s
+     * @param speedVariance  Variance added to the speed
+     * @param powerVariance  Variance added to the jumping power
+     * @param timingVariance Variance added to the timing
+     * @return Distance of the flight
+     */
+    private static double flightDistance(double kpoint, double hillsize, double windFactor, double speed, double power, double timing,
+                                         double wind, double speedVariance, double powerVariance, double timingVariance) {
+        double windmeter = wind * windFactor;
+        double jumpscore = ((clamp(speed + speedVariance) / 20) + (clamp(power + powerVariance) / 20)) * (clamp(timing + timingVariance) / 10);
+        double jumpmeter = ((2 * jumpscore) - 1) * hillsize * 0.1;
+
+        return kpoint + windmeter + jumpmeter;
+    }
+
+    /**
+     * Calculates the landing value a jumper needs to land a jump exactly.
+     *
+     * @param distance Distance of the flight
+     * @param hillsize Hillsize of the ramp
+     * @return Difficulty of the landing between 0 and 10
+     */
+    public static double difficulty(double distance, double hillsize) {
+        return (Math.tanh((((distance / hillsize) / 1.3) * 5) - 3) + 1) * 5;
+    }
+
+    /**
+     * @param value Value that should be kept between 0 and 10
+     * @return Value between 0 and 10
+     */
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(10, value));
+    }
+
+    /**
+     * @return KPoint of the ramp
+     */
+    public double getKpoint() {
+        return kpoint;
+    }
+
+    /**
+     * @return Hillsize of the ramp
+     */
+    public double getHillsize() {
+        return hillsize;
+    }
+
+    /**
+     * @return Meters gained per m/s of wind
+     */
+    public double getWindFactor() {
+        return windFactor;
+    }
+
+    /**
+     * @return Meters gained per gate the start is moved up
+     */
+    public double getGateFactor() {
+        return gateFactor;
+    }
+
+    /**
+     * @return Points awarded per meter
+     */
+    public double getMeterValue() {
+        return meterValue;
+    }
+
+    /**
+     * @return Table the difficulty of the landing is approximated with, null if it is calculated exactly
+     */
+    public DifficultyTable getDifficultyTable() {
+        return table;
+    }
+}
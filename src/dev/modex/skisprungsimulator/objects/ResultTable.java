@@ -0,0 +1,216 @@
+package dev.modex.skisprungsimulator.objects;
+
+/**
+ * The {@link ResultTable} class stores the results of all competitors of a
+ * {@link Competition} in flat primitive arrays, indexed by the position of the
+ * competitor in the {@link Roster}. The distances and points of a competitor
+ * are stored next to each other, one slot per round, so adding a result is a
+ * few array stores and does not create any objects. The sum of the points and
+ * the best distance of every competitor are updated with each result, so
+ * competitors can be ranked without looking at single jumps.
+ * <p>
+ * Every row is only written by the thread simulating the competitor, so
+ * several workers can add results at the same time. The table has a fixed
+ * size, {@link ResultTable#grow(int, int)} creates a larger copy.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public final class ResultTable {
+
+    /**
+     * Empty table, used until the first result is added
+     */
+    static final ResultTable EMPTY = new ResultTable(0, 1);
+
+    /**
+     * How many results can be stored per competitor
+     */
+    private final int stride;
+
+    /**
+     * Distance of every jump, competitor by competitor
+     */
+    private final double[] distances;
+
+    /**
+     * Points of every jump, competitor by competitor
+     */
+    private final double[] points;
+
+    /**
+     * How many results have been added for each competitor
+     */
+    private final int[] jumps;
+
+    /**
+     * Sum of the points of each competitor
+     */
+    private final double[] totals;
+
+    /**
+     * Best distance of each competitor, 0 if there is none
+     */
+    private final double[] best;
+
+    /**
+     * @param size   How many competitors the table holds
+     * @param stride How many results can be stored per competitor
+     */
+    ResultTable(int size, int stride) {
+        this.stride = Math.max(1, stride);
+        distances = new double[Math.multiplyExact(size, this.stride)];
+        points = new double[distances.length];
+        jumps = new int[size];
+        totals = new double[size];
+        best = new double[size];
+    }
+
+    /**
+     * Creates a copy of the table holding at least the given amount of
+     * competitors and results per competitor. Results added to this table
+     * while it is being copied may get lost.
+     *
+     * @param size   How many competitors the table should hold at least
+     * @param stride How many results should be stored per competitor at least
+     * @return Copy of the table
+     */
+    ResultTable grow(int size, int stride) {
+        ResultTable ret = new ResultTable(Math.max(size, jumps.length), Math.max(stride, this.stride));
+        for (int j = 0; j < jumps.length; j++) {
+            System.arraycopy(distances, j * this.stride, ret.distances, j * ret.stride, jumps[j]);
+            System.arraycopy(points, j * this.stride, ret.points, j * ret.stride, jumps[j]);
+        }
+        System.arraycopy(jumps, 0, ret.jumps, 0, jumps.length);
+        System.arraycopy(totals, 0, ret.totals, 0, totals.length);
+        System.arraycopy(best, 0, ret.best, 0, best.length);
+
+        return ret;
+    }
+
+    /**
+     * Adds a result, the row of the competitor needs to have a free slot.
+     *
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @param result     Distance of the jump, 0 if the jumper did not land
+     * @param points     Points of the jump
+     */
+    void add(int competitor, double result, double points) {
+        int index = competitor * stride + jumps[competitor]++;
+        distances[index] = result;
+        this.points[index] = points;
+        totals[competitor] += points;
+        if (result > best[competitor])
+            best[competitor] = result;
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @return Whether another result can be added for the competitor without growing the table
+     */
+    boolean hasRoom(int competitor) {
+        return competitor < jumps.length && jumps[competitor] < stride;
+    }
+
+    /**
+     * @return How many competitors the table holds
+     */
+    public int size() {
+        return jumps.length;
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @return How many results have been added for the competitor
+     */
+    public int getJumps(int competitor) {
+        return (competitor < jumps.length) ? jumps[competitor] : 0;
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @param round      Index of the result, starting at 0
+     * @return Distance of the jump
+     * @throws IndexOutOfBoundsException If there is no result at the given index
+     */
+    public double getResult(int competitor, int round) {
+        return distances[index(competitor, round)];
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @param round      Index of the result, starting at 0
+     * @return Points of the jump
+     * @throws IndexOutOfBoundsException If there is no result at the given index
+     */
+    public double getPoints(int competitor, int round) {
+        return points[index(competitor, round)];
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @return Sum of the points of the competitor, 0 if there are none
+     */
+    public double getPoints(int competitor) {
+        return (competitor < totals.length) ? totals[competitor] : 0;
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @return Best distance of the competitor, 0 if there is none
+     */
+    public double getBest(int competitor) {
+        return (competitor < best.length) ? best[competitor] : 0;
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @return Whether the competitor has no valid result
+     * @see Results#disqualified()
+     */
+    public boolean disqualified(int competitor) {
+        return getBest(competitor) == 0;
+    }
+
+    /**
+     * Compares two competitors like {@link Results#compareTo(Results)},
+     * by their points first and by their best distance if the points are the same.
+     *
+     * @param a Position of the first competitor
+     * @param b Position of the second competitor
+     * @return A positive value if the first competitor ranks higher, a negative value
+     * if the second one does and 0 if they share a rank
+     */
+    public int compare(int a, int b) {
+        int ret = Double.compare(totals[a], totals[b]);
+        return (ret != 0) ? ret : Double.compare(best[a], best[b]);
+    }
+
+    /**
+     * @param competitor Position of the competitor in the {@link Roster}
+     * @return Copy of the results of the competitor, null if the competitor has not jumped yet
+     */
+    public Results toResults(int competitor) {
+        int count = getJumps(competitor);
+        if (count == 0)
+            return null;
+
+        Results ret = new Results(count);
+        for (int round = 0; round < count; round++)
+            ret.addResult(distances[competitor * stride + round], points[competitor * stride + round]);
+
+        return ret;
+    }
+
+    /**
+     * @param competitor Position of the competitor
+     * @param round      Index of the result
+     * @return Index of the result in the arrays
+     * @throws IndexOutOfBoundsException If there is no result at the given index
+     */
+    private int index(int competitor, int round) {
+        if (round < 0 || round >= getJumps(competitor))
+            throw new IndexOutOfBoundsException(round);
+
+        return competitor * stride + round;
+    }
+}
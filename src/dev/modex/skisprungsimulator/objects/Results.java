@@ -1,100 +1,213 @@
 package dev.modex.skisprungsimulator.objects;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
  * The {@link Results} class stores all the results a
  * jumper receives during a competition.
+ * Results are kept in a primitive array and the best result,
+ * the amount of results and the amount of valid results
+ * are updated whenever a result is added, so that
+ * {@link Results#getBest()}, {@link Results#disqualified()} and
+ * {@link Results#compareTo(Results)} do not have to allocate anything.
+ * The points of every result are kept next to it and summed up,
+ * see {@link Scoring}.
  *
  * @author Modex / Thomas Spatz & Simon Garzon
  */
 public class Results implements Comparable<Results> {
 
     /**
-     * List containing the results
+     * Default capacity of the results array
      */
-    private final ArrayList<Double> results;
+    private static final int DEFAULT_CAPACITY = 4;
 
     /**
-     * Default constructor initilizes list
+     * Array containing the results
+     */
+    private double[] results;
+
+    /**
+     * Array containing the points of each result
+     */
+    private double[] points;
+
+    /**
+     * Sum of the points of all results
+     */
+    private double totalPoints;
+
+    /**
+     * How many results have been added
+     */
+    private int count;
+
+    /**
+     * How many results are valid (not 0)
+     */
+    private int validCount;
+
+    /**
+     * Highest result that has been added
+     */
+    private double best;
+
+    /**
+     * Default constructor initilizes array
      */
     public Results() {
-        results = new ArrayList<>();
+        this(DEFAULT_CAPACITY);
     }
 
     /**
-     * Overloaded constructor calls default constructor to initialize list
+     * Overloaded constructor initializes the array with a given capacity,
+     * e.g. the amount of rounds of a competition.
+     *
+     * @param capacity How many results are expected
+     */
+    public Results(int capacity) {
+        results = new double[Math.max(1, capacity)];
+        points = new double[results.length];
+        best = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Overloaded constructor calls default constructor to initialize array
      * and adds a given result afterwards.
      *
-     * @param result Result to be added to the list of results
+     * @param result Result to be added to the array of results
      */
     public Results(double result) {
         this();
-        results.add(result);
+        addResult(result);
     }
 
     /**
-     * @param result Result to be added to the list of results
+     * Adds a result without any points.
+     *
+     * @param result Result to be added to the array of results
      */
     public void addResult(double result) {
-        results.add(result);
+        addResult(result, 0);
+    }
+
+    /**
+     * @param result Result to be added to the array of results
+     * @param points Points of the result
+     */
+    public void addResult(double result, double points) {
+        if (count == results.length) {
+            results = Arrays.copyOf(results, count * 2);
+            this.points = Arrays.copyOf(this.points, count * 2);
+        }
+
+        this.points[count] = points;
+        totalPoints += points;
+        results[count++] = result;
+
+        if (result != 0)
+            validCount++;
+
+        if (result > best)
+            best = result;
     }
 
     /**
      * @param index Index of the result that should be returned
-     * @return The result of the list at a given index
+     * @return The result of the array at a given index
+     * @throws IndexOutOfBoundsException If there is no result at the given index
      */
     public double getResult(int index) {
-        return results.get(index);
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException(index);
+
+        return results[index];
     }
 
     /**
-     * @return List of results
+     * @param index Index of the result whose points should be returned
+     * @return Points of the result at a given index
+     * @throws IndexOutOfBoundsException If there is no result at the given index
+     */
+    public double getPoints(int index) {
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException(index);
+
+        return points[index];
+    }
+
+    /**
+     * @return Sum of the points of all results
+     */
+    public double getPoints() {
+        return totalPoints;
+    }
+
+    /**
+     * @return How many results have been added
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return Copy of the results as a list
      */
     public ArrayList<Double> getResults() {
-        return results;
+        ArrayList<Double> ret = new ArrayList<>(count);
+        for (int j = 0; j < count; j++)
+            ret.add(results[j]);
+
+        return ret;
     }
 
     /**
      * @return Copy of list of results sorted descendingly
      */
     public ArrayList<Double> getSortedResults() {
-        ArrayList<Double> ret = new ArrayList<>(results);
+        ArrayList<Double> ret = getResults();
         ret.sort(Collections.reverseOrder());
         return ret;
     }
 
     /**
-     * @return Highest result of the results list
+     * @return Highest result of the results array
+     * @throws IndexOutOfBoundsException If no result has been added yet
      */
     public double getBest() {
-        return getSortedResults().get(0);
+        if (count == 0)
+            throw new IndexOutOfBoundsException(0);
+
+        return best;
     }
 
     /**
      * @return Whether all results are invalid or not
      */
     public boolean disqualified() {
-        for (double d : results)
-            if (d != 0)
-                return false;
-
-        return true;
+        return validCount == 0;
     }
 
     /**
      * Overrides {@link Comparable#compareTo(Object)} to be able to sort
-     * a list containing {@link Results}.
+     * a list containing {@link Results}. Results are compared by their
+     * points first and by their best result if the points are the same.
      *
      * @param o Result the current instance of {@link Results} should be compared to
      * @return Whether the list entry should be moved forward (-1 forward, 0 same spot, 1 back)
      */
     @Override
     public int compareTo(Results o) {
-        if (this.getSortedResults().get(0) > o.getSortedResults().get(0))
+        if (this.totalPoints > o.totalPoints)
+            return 1;
+        else if (this.totalPoints < o.totalPoints)
+            return -1;
+
+        if (this.best > o.best)
             return 1;
-        else if (this.getSortedResults().get(0).equals(o.getSortedResults().get(0)))
+        else if (this.best == o.best)
             return 0;
 
         return -1;
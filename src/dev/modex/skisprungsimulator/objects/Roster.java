@@ -0,0 +1,539 @@
+package dev.modex.skisprungsimulator.objects;
+
+import dev.modex.skisprungsimulator.enums.Attribute;
+import dev.modex.skisprungsimulator.enums.FirstName;
+import dev.modex.skisprungsimulator.enums.LastName;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The {@link Roster} class stores the competitors of a {@link Competition}
+ * column by column. Every attribute is kept in its own primitive array,
+ * indexed by the position of the competitor, so a round can be simulated
+ * by looping over the arrays without touching any {@link Jumper} objects.
+ * Random names are packed into a single int made of the ordinals of their
+ * {@link FirstName} and {@link LastName}, other names are stored once in
+ * a dictionary and referenced by their id. The name is only turned into
+ * a {@link String} when it is requested.
+ * {@link Jumper} objects are only created when they are requested,
+ * e.g. to print a result.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Roster {
+
+    /**
+     * Default capacity of the attribute arrays
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * How many values {@link Roster#addRandom(CustomRandom)} draws per competitor
+     */
+    public static final int RANDOM_VALUES = 7;
+
+    /**
+     * Minimum amount of random competitors generated by one task
+     */
+    private static final int RANDOM_THRESHOLD = 1 << 14;
+
+    /**
+     * Age of each competitor
+     */
+    private int[] age;
+
+    /**
+     * Speed of each competitor
+     */
+    private double[] speed;
+
+    /**
+     * Jumping power of each competitor
+     */
+    private double[] power;
+
+    /**
+     * Timing of each competitor
+     */
+    private double[] timing;
+
+    /**
+     * Landing value of each competitor
+     */
+    private double[] landing;
+
+    /**
+     * Id of the name of each competitor, see {@link Roster#packName(FirstName, LastName)}
+     */
+    private int[] nameId;
+
+    /**
+     * {@link Jumper} object of each competitor, null until it is requested
+     */
+    private Jumper[] jumpers;
+
+    /**
+     * Position of every competitor whose {@link Jumper} object exists
+     */
+    private final Map<Jumper, Integer> indices;
+
+    /**
+     * Dictionary of all names, indexed by their id
+     */
+    private List<String> names;
+
+    /**
+     * Id of every name in the dictionary, null until a name is added
+     * to a dictionary that has been passed to the constructor
+     */
+    private Map<String, Integer> nameIds;
+
+    /**
+     * Distribution each attribute of random competitors is drawn from, indexed by {@link Attribute#ordinal()}
+     */
+    private final Distribution[] distributions = defaultDistributions();
+
+    /**
+     * How many competitors are in the roster
+     */
+    private int size;
+
+    /**
+     * Default constructor initializing empty arrays
+     */
+    public Roster() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity How many competitors are expected
+     */
+    public Roster(int capacity) {
+        capacity = Math.max(1, capacity);
+        age = new int[capacity];
+        speed = new double[capacity];
+        power = new double[capacity];
+        timing = new double[capacity];
+        landing = new double[capacity];
+        nameId = new int[capacity];
+        jumpers = new Jumper[capacity];
+        indices = new ConcurrentHashMap<>();
+        names = new ArrayList<>();
+        nameIds = new HashMap<>();
+    }
+
+    /**
+     * Overloaded constructor using existing attribute arrays without copying them,
+     * e.g. arrays loaded from a file. All arrays need to hold at least size entries.
+     *
+     * @param size    How many competitors are in the arrays
+     * @param age     Age of each competitor
+     * @param speed   Speed of each competitor
+     * @param power   Jumping power of each competitor
+     * @param timing  Timing of each competitor
+     * @param landing Landing value of each competitor
+     * @param nameId  Id of the name of each competitor
+     * @param names   Dictionary of the names that are not packed, indexed by their id.
+     *                It is used as it is and only copied once another name is added,
+     *                so it may load its names lazily.
+     * @throws IllegalArgumentException If an array holds less than size entries
+     */
+    public Roster(int size, int[] age, double[] speed, double[] power, double[] timing, double[] landing, int[] nameId, List<String> names) {
+        if (age.length < size || speed.length < size || power.length < size || timing.length < size || landing.length < size || nameId.length < size)
+            throw new IllegalArgumentException();
+
+        this.size = size;
+        this.age = age;
+        this.speed = speed;
+        this.power = power;
+        this.timing = timing;
+        this.landing = landing;
+        this.nameId = nameId;
+        this.jumpers = new Jumper[Math.max(1, speed.length)];
+        this.indices = new ConcurrentHashMap<>();
+        this.names = names;
+    }
+
+    /**
+     * Adds an existing jumper, the object will be returned by {@link Roster#getJumper(int)}.
+     *
+     * @param jumper Jumper to add to the roster
+     * @return Position of the jumper in the roster
+     */
+    public int add(Jumper jumper) {
+        int index = add(jumper.getName(), jumper.getAge(), jumper.getSpeed(), jumper.getPower(), jumper.getTiming(), jumper.getLanding());
+        jumpers[index] = jumper;
+        indices.put(jumper, index);
+        return index;
+    }
+
+    /**
+     * Adds a competitor without creating a {@link Jumper} object.
+     *
+     * @param name    Name of the competitor
+     * @param age     Age of the competitor
+     * @param speed   Speed of the competitor
+     * @param power   Jumping power of the competitor
+     * @param timing  Timing of the competitor
+     * @param landing Landing value of the competitor
+     * @return Position of the competitor in the roster
+     */
+    public int add(String name, int age, double speed, double power, double timing, double landing) {
+        return add(internName(name), age, speed, power, timing, landing);
+    }
+
+    /**
+     * Adds a competitor without creating a {@link Jumper} object.
+     *
+     * @param nameId  Id of the name of the competitor, see {@link Roster#packName(FirstName, LastName)}
+     * @param age     Age of the competitor
+     * @param speed   Speed of the competitor
+     * @param power   Jumping power of the competitor
+     * @param timing  Timing of the competitor
+     * @param landing Landing value of the competitor
+     * @return Position of the competitor in the roster
+     */
+    public int add(int nameId, int age, double speed, double power, double timing, double landing) {
+        ensureCapacity(size + 1);
+        this.age[size] = age;
+        this.speed[size] = speed;
+        this.power[size] = power;
+        this.timing[size] = timing;
+        this.landing[size] = landing;
+        this.nameId[size] = nameId;
+        return size++;
+    }
+
+    /**
+     * Adds a random competitor with the same values as {@link Jumper#Jumper(CustomRandom)}
+     * without creating a {@link Jumper} object.
+     *
+     * @param random Generator used to draw the random values
+     * @return Position of the competitor in the roster
+     */
+    public int addRandom(CustomRandom random) {
+        return addRandom(1, random, null);
+    }
+
+    /**
+     * Adds random competitors in bulk. Every competitor draws the same
+     * amount of values, so a chunk of competitors can skip to its part of the
+     * stream of the generator and the chunks can be generated in parallel.
+     * The competitors and the state the generator is left in are the same as
+     * if they had been added one by one, regardless of how many threads are used.
+     *
+     * @param count  Amount of random competitors to be added
+     * @param random Generator used to draw the random values
+     * @param pool   Pool the chunks are generated on, null to generate them on the current thread
+     * @return Position of the first competitor that has been added
+     * @throws IllegalArgumentException If count is negative
+     */
+    public int addRandom(int count, CustomRandom random, ForkJoinPool pool) {
+        if (count < 0)
+            throw new IllegalArgumentException("Negative amount of competitors: " + count);
+
+        int from = size;
+        ensureCapacity(from + count);
+
+        if (pool == null || count <= RANDOM_THRESHOLD)
+            fillRandom(from, from + count, random.copy());
+        else
+            pool.invoke(new RandomTask(from, from + count, random.copy()));
+
+        random.skip((long) RANDOM_VALUES * count);
+        size = from + count;
+        return from;
+    }
+
+    /**
+     * @param from   Position of the first competitor (inclusive)
+     * @param to     Position of the last competitor (exclusive)
+     * @param random Generator positioned at the values of the first competitor
+     */
+    private void fillRandom(int from, int to, CustomRandom random) {
+        for (int j = from; j < to; j++)
+            setRandom(j, random);
+    }
+
+    /**
+     * Draws the attributes of a random competitor, the same as {@link Jumper#Jumper(CustomRandom)}
+     * if the default distributions are used. The draws have to match {@link Roster#RANDOM_VALUES}.
+     *
+     * @param index  Position the competitor is stored at
+     * @param random Generator used to draw the random values
+     */
+    private void setRandom(int index, CustomRandom random) {
+        nameId[index] = packName(FirstName.random(random), LastName.random(random));
+        age[index] = random.nextInt(20, 50);
+        speed[index] = sample(Attribute.SPEED, random.nextDouble());
+        power[index] = sample(Attribute.POWER, random.nextDouble());
+        timing[index] = sample(Attribute.TIMING, random.nextDouble());
+        landing[index] = sample(Attribute.LANDING, random.nextDouble());
+    }
+
+    /**
+     * Sets the distribution an attribute of the random competitors that are
+     * added afterwards is drawn from. Every attribute is drawn from a single
+     * random value, so {@link Roster#RANDOM_VALUES} does not change.
+     *
+     * @param attribute    Attribute whose distribution should be set
+     * @param distribution Distribution the attribute should be drawn from
+     * @throws IllegalArgumentException If the distribution exceeds the range of the attribute
+     */
+    public void setDistribution(Attribute attribute, Distribution distribution) {
+        if (distribution.getMin() < attribute.getMin() || distribution.getMax() > attribute.getMax())
+            throw new IllegalArgumentException("Distribution of " + attribute + " is not between " + attribute.getMin() + " and " + attribute.getMax());
+
+        distributions[attribute.ordinal()] = distribution;
+    }
+
+    /**
+     * @param attribute Attribute whose distribution should be returned
+     * @return Distribution the attribute of random competitors is drawn from
+     */
+    public Distribution getDistribution(Attribute attribute) {
+        return distributions[attribute.ordinal()];
+    }
+
+    /**
+     * @param attribute Attribute that should be drawn
+     * @param uniform   Uniform random value between inclusively 0 and exclusively 1
+     * @return Value of the attribute
+     */
+    protected double sample(Attribute attribute, double uniform) {
+        return distributions[attribute.ordinal()].sample(uniform);
+    }
+
+    /**
+     * @return Default distribution of every attribute, see {@link Attribute#getDefaultDistribution()}
+     */
+    private static Distribution[] defaultDistributions() {
+        Attribute[] attributes = Attribute.values();
+        Distribution[] ret = new Distribution[attributes.length];
+        for (Attribute attribute : attributes)
+            ret[attribute.ordinal()] = attribute.getDefaultDistribution();
+
+        return ret;
+    }
+
+    /**
+     * Packs a name into a single int, the first name is stored
+     * in the upper and the last name in the lower 16 bits.
+     * Names stored in the dictionary have negative ids.
+     *
+     * @param firstName First name of the competitor
+     * @param lastName  Last name of the competitor
+     * @return Id of the name
+     */
+    public static int packName(FirstName firstName, LastName lastName) {
+        return (firstName.ordinal() << 16) | lastName.ordinal();
+    }
+
+    /**
+     * Adds a name to the dictionary if it is not stored yet.
+     *
+     * @param name Name that should be stored
+     * @return Id of the name, which is always negative
+     */
+    public int internName(String name) {
+        if (nameIds == null) {
+            names = new ArrayList<>(names);
+            nameIds = new HashMap<>();
+            for (int j = 0; j < names.size(); j++)
+                nameIds.putIfAbsent(names.get(j), j);
+        }
+
+        return ~nameIds.computeIfAbsent(name, n -> {
+            names.add(n);
+            return names.size() - 1;
+        });
+    }
+
+    /**
+     * @return Unmodifiable dictionary of the names that are not packed,
+     * the name with the id {@code ~i} is stored at index i
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * @param capacity How many competitors the arrays should be able to hold
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= speed.length)
+            return;
+
+        capacity = Math.max(capacity, speed.length * 2);
+        age = Arrays.copyOf(age, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        power = Arrays.copyOf(power, capacity);
+        timing = Arrays.copyOf(timing, capacity);
+        landing = Arrays.copyOf(landing, capacity);
+        nameId = Arrays.copyOf(nameId, capacity);
+        jumpers = Arrays.copyOf(jumpers, capacity);
+    }
+
+    /**
+     * Returns the {@link Jumper} object of a competitor. It is created
+     * the first time it is requested and the same object is returned afterwards.
+     *
+     * @param index Position of the competitor
+     * @return Jumper object of the competitor
+     */
+    public synchronized Jumper getJumper(int index) {
+        Objects.checkIndex(index, size);
+        if (jumpers[index] == null) {
+            jumpers[index] = new Jumper(getName(index), age[index], speed[index], power[index], timing[index], landing[index]);
+            indices.put(jumpers[index], index);
+        }
+
+        return jumpers[index];
+    }
+
+    /**
+     * @param jumper Jumper object of a competitor
+     * @return Position of the competitor, -1 if the jumper is not in the roster
+     */
+    public int indexOf(Jumper jumper) {
+        return indices.getOrDefault(jumper, -1);
+    }
+
+    /**
+     * @return Unmodifiable list of all competitors, {@link Jumper} objects are created when accessed
+     */
+    public List<Jumper> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Jumper get(int index) {
+                return getJumper(index);
+            }
+
+            @Override
+            public int size() {
+                return Roster.this.size();
+            }
+        };
+    }
+
+    /**
+     * @return How many competitors are in the roster
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Name of the competitor
+     */
+    public String getName(int index) {
+        int id = getNameId(index);
+        if (id < 0)
+            return names.get(~id);
+
+        return FirstName.of(id >>> 16).toString() + " " + LastName.of(id & 0xFFFF).toString();
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Id of the name of the competitor, see {@link Roster#packName(FirstName, LastName)}
+     */
+    public int getNameId(int index) {
+        return nameId[index];
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Age of the competitor
+     */
+    public int getAge(int index) {
+        return age[index];
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Speed of the competitor
+     */
+    public double getSpeed(int index) {
+        return speed[index];
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Jumping power of the competitor
+     */
+    public double getPower(int index) {
+        return power[index];
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Timing of the competitor
+     */
+    public double getTiming(int index) {
+        return timing[index];
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Landing value of the competitor
+     */
+    public double getLanding(int index) {
+        return landing[index];
+    }
+
+    /**
+     * The {@link RandomTask} splits the random competitors that are added
+     * into chunks which are generated by the workers of the pool.
+     */
+    @SuppressWarnings("serial")
+    private class RandomTask extends RecursiveAction {
+
+        /**
+         * Position of the first competitor (inclusive)
+         */
+        private final int from;
+
+        /**
+         * Position of the last competitor (exclusive)
+         */
+        private final int to;
+
+        /**
+         * Generator positioned at the values of the first competitor, owned by this task
+         */
+        private final CustomRandom random;
+
+        /**
+         * @param from   Position of the first competitor (inclusive)
+         * @param to     Position of the last competitor (exclusive)
+         * @param random Generator positioned at the values of the first competitor, owned by this task
+         */
+        RandomTask(int from, int to, CustomRandom random) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        /**
+         * Generates the range directly if it is small enough,
+         * otherwise splits it in half.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= RANDOM_THRESHOLD) {
+                fillRandom(from, to, random);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            CustomRandom right = random.copy().skip((long) RANDOM_VALUES * (middle - from));
+            invokeAll(new RandomTask(from, middle, random), new RandomTask(middle, to, right));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package dev.modex.skisprungsimulator.objects;
+
+/**
+ * The {@link Scoring} class calculates the points of a jump like in a real
+ * competition: distance points relative to the kpoint, the style marks of
+ * five judges without the highest and the lowest mark, and the compensation
+ * points for wind and gate. A competitor's points of all rounds are summed up
+ * and decide the ranking, see {@link Results#compareTo(Results)}.
+ * <p>
+ * The five style marks of a jump are taken from a single random value,
+ * 12 bits per judge, so scoring a jump draws nothing itself. Jumps are
+ * scored in bulk with {@link Scoring#score(double[], double[], long[], double[], double[], int)},
+ * which only loops over primitive arrays.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public final class Scoring {
+
+    /**
+     * How many judges give style marks
+     */
+    public static final int JUDGES = 5;
+
+    /**
+     * Random value giving every judge the base mark of the jumper,
+     * used when the marks of a jump are not known
+     */
+    public static final long NEUTRAL_MARKS = 0x800_800_800_800_800L;
+
+    /**
+     * Highest style mark a judge can give
+     */
+    private static final double MAX_MARK = 20;
+
+    /**
+     * How far the mark of a judge may differ from the base mark
+     */
+    private static final double SPREAD = 1.5;
+
+    /**
+     * Bits of the random value used per judge
+     */
+    private static final int MARK_BITS = 12;
+
+    /**
+     * Largest value of the bits of a judge
+     */
+    private static final int MARK_MASK = (1 << MARK_BITS) - 1;
+
+    /**
+     * Highest style mark a judge can give in half points
+     */
+    private static final int HALF_MAX_MARK = (int) (MAX_MARK * 2);
+
+    /**
+     * Half points a judge deviates per step of its bits
+     */
+    private static final double HALF_STEP = 4 * SPREAD / MARK_MASK;
+
+    /**
+     * KPoint of the ramp
+     */
+    private final double kpoint;
+
+    /**
+     * Points awarded per meter
+     */
+    private final double meterValue;
+
+    /**
+     * Distance points of a jump that lands exactly on the kpoint
+     */
+    private final double kpointPoints;
+
+    /**
+     * Points of a jump of twice the hillsize with the best style marks
+     */
+    private final double maxPoints;
+
+    /**
+     * @param profile Profile of the ramp the jumps are scored for
+     */
+    public Scoring(RampProfile profile) {
+        this.kpoint = profile.getKpoint();
+        this.meterValue = profile.getMeterValue();
+        // Ski flying hills award twice the points for reaching the kpoint
+        this.kpointPoints = (kpoint >= 170) ? 120 : 60;
+        this.maxPoints = kpointPoints + (profile.getHillsize() * 2 - kpoint) * meterValue + (JUDGES - 2) * MAX_MARK;
+    }
+
+    /**
+     * Scores jumps in bulk. Disqualified jumps receive no points.
+     *
+     * @param distances     Distance of each jump, 0 if the jumper did not land
+     * @param landings      Landing value of the jumper of each jump
+     * @param marks         Random value the style marks of each jump are taken from
+     * @param compensations Compensation points of each jump, null if there are none
+     * @param points        Array the points of each jump are written to
+     * @param size          How many jumps should be scored
+     */
+    public void score(double[] distances, double[] landings, long[] marks, double[] compensations, double[] points, int size) {
+        for (int k = 0; k < size; k++)
+            points[k] = points(distances[k], landings[k], marks[k], (compensations != null) ? compensations[k] : 0);
+    }
+
+    /**
+     * Scores a single jump.
+     *
+     * @param distance     Distance of the jump, 0 if the jumper did not land
+     * @param landing      Landing value of the jumper
+     * @param marks        Random value the style marks are taken from
+     * @param compensation Compensation points of the jump
+     * @return Points of the jump, never below 0
+     */
+    public double points(double distance, double landing, long marks, double compensation) {
+        if (distance == 0)
+            return 0;
+
+        return Math.max(0, kpointPoints + (distance - kpoint) * meterValue + style(landing, marks) + compensation);
+    }
+
+    /**
+     * Calculates the style points of a jump. Every judge gives a mark around
+     * the base mark of the jumper in half points, the highest and the lowest
+     * mark are dropped and the others are summed up.
+     *
+     * @param landing Landing value of the jumper, between 0 and 10
+     * @param marks   Random value the marks are taken from
+     * @return Style points of the jump, at most 60
+     */
+    public static double style(double landing, long marks) {
+        // Marks are counted in half points as integers, the base mark is never negative
+        double base = 24 + landing * 1.3 + 0.5;
+        int sum = 0, min = HALF_MAX_MARK, max = 0;
+        for (int judge = 0; judge < JUDGES; judge++) {
+            int mark = Math.min(HALF_MAX_MARK, (int) (base + ((marks >>> (judge * MARK_BITS)) & MARK_MASK) * HALF_STEP - 2 * SPREAD));
+            sum += mark;
+            min = Math.min(min, mark);
+            max = Math.max(max, mark);
+        }
+
+        return (sum - min - max) * 0.5;
+    }
+
+    /**
+     * @return Distance points of a jump that lands exactly on the kpoint
+     */
+    public double getKpointPoints() {
+        return kpointPoints;
+    }
+
+    /**
+     * @return Points of a jump of twice the hillsize with the best style marks, without compensation
+     */
+    public double getMaxPoints() {
+        return maxPoints;
+    }
+}
@@ -0,0 +1,125 @@
+package dev.modex.skisprungsimulator.objects;
+
+import java.util.Arrays;
+
+/**
+ * The {@link Standings} class keeps track of the rank of every jumper
+ * while a competition is running. The result of each jumper, e.g. their
+ * points, is rounded to hundredths and counted in a Fenwick tree, so updating
+ * the result of a jumper and looking up their rank both take
+ * O(log n) instead of sorting all results. Jumpers whose results
+ * round to the same hundredth share a rank. Jumpers are referenced
+ * by their position in the {@link Roster}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Standings {
+
+    /**
+     * How many buckets are used per unit of a result
+     */
+    private static final int BUCKETS_PER_UNIT = 100;
+
+    /**
+     * Fenwick tree counting the jumpers per bucket, index 0 is unused
+     */
+    private final int[] tree;
+
+    /**
+     * Bucket the result of each jumper is counted in, -1 if not counted yet
+     */
+    private int[] buckets;
+
+    /**
+     * How many jumpers have a result
+     */
+    private int size;
+
+    /**
+     * @param maxValue Largest result that can be told apart,
+     *                 higher results share the last bucket
+     */
+    public Standings(double maxValue) {
+        tree = new int[(int) Math.ceil(maxValue * BUCKETS_PER_UNIT) + 2];
+        buckets = new int[0];
+    }
+
+    /**
+     * Updates the standings after a result has been added
+     * and calculates the new rank of the jumper.
+     *
+     * @param jumper Position of the jumper
+     * @param best   Current result of the jumper, never lower than before
+     * @return Current rank of the jumper, starting at 1
+     */
+    public synchronized int update(int jumper, double best) {
+        if (jumper >= buckets.length) {
+            int length = buckets.length;
+            buckets = Arrays.copyOf(buckets, Math.max(jumper + 1, length * 2));
+            Arrays.fill(buckets, length, buckets.length, -1);
+        }
+
+        int bucket = bucket(best);
+        int previous = buckets[jumper];
+
+        if (previous != bucket) {
+            if (previous == -1)
+                size++;
+            else
+                add(previous, -1);
+
+            add(bucket, 1);
+            buckets[jumper] = bucket;
+        }
+
+        return size - count(bucket) + 1;
+    }
+
+    /**
+     * @param jumper Position of the jumper
+     * @return Current rank of the jumper, starting at 1,
+     * or -1 if the jumper does not have a result yet
+     */
+    public synchronized int getRank(int jumper) {
+        if (jumper >= buckets.length || buckets[jumper] == -1)
+            return -1;
+
+        return size - count(buckets[jumper]) + 1;
+    }
+
+    /**
+     * @return How many jumpers have a result
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param value Result of a jumper
+     * @return Bucket the result is counted in
+     */
+    private int bucket(double value) {
+        return (int) Math.max(1, Math.min(tree.length - 1, Math.round(value * BUCKETS_PER_UNIT) + 1));
+    }
+
+    /**
+     * @param bucket Bucket that should be changed
+     * @param delta  Change of the amount of jumpers in the bucket
+     */
+    private void add(int bucket, int delta) {
+        for (int j = bucket; j < tree.length; j += j & -j)
+            tree[j] += delta;
+    }
+
+    /**
+     * @param bucket Last bucket that should be counted
+     * @return How many jumpers are counted in the buckets up to the given bucket
+     */
+    private int count(int bucket) {
+        int ret = 0;
+        for (int j = bucket; j > 0; j -= j & -j)
+            ret += tree[j];
+
+        return ret;
+    }
+}
@@ -0,0 +1,266 @@
+package dev.modex.skisprungsimulator.objects;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link TournamentResults} class aggregates the outcome of many
+ * independent competitions with the same competitors and ramp.
+ * Only counters and a histogram of the best distances are stored per
+ * jumper, the {@link Results} of the single competitions are discarded.
+ * Competitions can be added concurrently, so all workers share one instance.
+ * The histogram is limited to {@value MAX_CELLS} bins in total, large fields
+ * get wider bins.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class TournamentResults {
+
+    /**
+     * How many histogram bins are used per meter if the histogram is small enough
+     */
+    private static final int BINS_PER_METER = 2;
+
+    /**
+     * Maximum amount of bins of all jumpers together
+     */
+    private static final long MAX_CELLS = 1L << 24;
+
+    /**
+     * List of competitors attending the competitions
+     */
+    private final List<Jumper> competitors;
+
+    /**
+     * Width of a histogram bin in meters
+     */
+    private final double binWidth;
+
+    /**
+     * How many bins the histogram of each jumper has
+     */
+    private final int bins;
+
+    /**
+     * How many competitions have been added
+     */
+    private final LongAdder runs = new LongAdder();
+
+    /**
+     * How many competitions each jumper has won
+     */
+    private final AtomicLongArray wins;
+
+    /**
+     * How many times each jumper has been on the podium
+     */
+    private final AtomicLongArray podiums;
+
+    /**
+     * How many times each jumper has been disqualified
+     */
+    private final AtomicLongArray disqualifications;
+
+    /**
+     * Histogram of the best distances of each jumper,
+     * the bins of jumper j start at index j * bins
+     */
+    private final AtomicIntegerArray histogram;
+
+    /**
+     * @param competitors List of competitors attending the competitions
+     * @param maxDistance Largest distance the histogram should be able to hold,
+     *                    longer jumps will be counted in the last bin
+     * @throws IllegalArgumentException If there are too many competitors for the histogram
+     */
+    public TournamentResults(List<Jumper> competitors, double maxDistance) {
+        double width = 1d / BINS_PER_METER;
+        while ((long) competitors.size() * bins(maxDistance, width) > MAX_CELLS && width < maxDistance)
+            width *= 2;
+
+        long cells = (long) competitors.size() * bins(maxDistance, width);
+        if (cells > MAX_CELLS)
+            throw new IllegalArgumentException("Too many competitors for a tournament: " + competitors.size());
+
+        this.competitors = competitors;
+        this.binWidth = width;
+        this.bins = bins(maxDistance, width);
+        this.wins = new AtomicLongArray(competitors.size());
+        this.podiums = new AtomicLongArray(competitors.size());
+        this.disqualifications = new AtomicLongArray(competitors.size());
+        this.histogram = new AtomicIntegerArray((int) cells);
+    }
+
+    /**
+     * @param maxDistance Largest distance the histogram should be able to hold
+     * @param width       Width of a bin in meters
+     * @return How many bins the histogram of each jumper needs
+     */
+    private static int bins(double maxDistance, double width) {
+        return (int) Math.ceil(maxDistance / width) + 1;
+    }
+
+    /**
+     * Adds the outcome of one competition ranked by the best result.
+     *
+     * @param best  Best result of every competitor, indexed like the list of competitors
+     * @param valid How many valid results every competitor has
+     */
+    public void addRun(double[] best, int[] valid) {
+        addRun(best, valid, best);
+    }
+
+    /**
+     * Adds the outcome of one competition ranked by points. Jumpers with
+     * the same points are ranked by their best result and after that in the order
+     * they were added to the competition, just like in {@link Competition#sortResults()}.
+     *
+     * @param best   Best result of every competitor, indexed like the list of competitors
+     * @param valid  How many valid results every competitor has
+     * @param points Points every competitor has, see {@link Scoring}
+     */
+    public void addRun(double[] best, int[] valid, double[] points) {
+        int first = -1, second = -1, third = -1;
+
+        for (int j = 0; j < best.length; j++) {
+            if (valid[j] == 0) {
+                disqualifications.incrementAndGet(j);
+                continue;
+            }
+
+            histogram.incrementAndGet(j * bins + Math.min(bins - 1, Math.max(0, (int) (best[j] / binWidth))));
+
+            if (first == -1 || ranksAbove(j, first, best, points)) {
+                third = second;
+                second = first;
+                first = j;
+            } else if (second == -1 || ranksAbove(j, second, best, points)) {
+                third = second;
+                second = j;
+            } else if (third == -1 || ranksAbove(j, third, best, points)) {
+                third = j;
+            }
+        }
+
+        if (first != -1) {
+            wins.incrementAndGet(first);
+            podiums.incrementAndGet(first);
+        }
+        if (second != -1)
+            podiums.incrementAndGet(second);
+        if (third != -1)
+            podiums.incrementAndGet(third);
+
+        runs.increment();
+    }
+
+    /**
+     * Compares two competitors like {@link Results#compareTo(Results)}.
+     *
+     * @param a      Index of the first competitor
+     * @param b      Index of the second competitor
+     * @param best   Best result of every competitor
+     * @param points Points every competitor has
+     * @return Whether the first competitor ranks strictly higher than the second one
+     */
+    private static boolean ranksAbove(int a, int b, double[] best, double[] points) {
+        return points[a] > points[b] || (points[a] == points[b] && best[a] > best[b]);
+    }
+
+    /**
+     * Adds all competitions of another instance with the same competitors and bins.
+     *
+     * @param other Results that should be added to this instance
+     * @return Current instance of {@link TournamentResults}
+     */
+    public TournamentResults merge(TournamentResults other) {
+        for (int j = 0; j < wins.length(); j++) {
+            wins.addAndGet(j, other.wins.get(j));
+            podiums.addAndGet(j, other.podiums.get(j));
+            disqualifications.addAndGet(j, other.disqualifications.get(j));
+        }
+        for (int j = 0; j < histogram.length(); j++)
+            histogram.addAndGet(j, other.histogram.get(j));
+
+        runs.add(other.getRuns());
+        return this;
+    }
+
+    /**
+     * @return List of competitors attending the competitions
+     */
+    public List<Jumper> getCompetitors() {
+        return competitors;
+    }
+
+    /**
+     * @return How many competitions have been added
+     */
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    /**
+     * @return Width of a histogram bin in meters, the accuracy of the percentiles
+     */
+    public double getBinWidth() {
+        return binWidth;
+    }
+
+    /**
+     * @param competitor Index of the competitor
+     * @return Probability of the competitor winning a competition
+     */
+    public double getWinProbability(int competitor) {
+        long runs = getRuns();
+        return runs == 0 ? 0 : (double) wins.get(competitor) / runs;
+    }
+
+    /**
+     * @param competitor Index of the competitor
+     * @return Probability of the competitor getting on the podium
+     */
+    public double getPodiumProbability(int competitor) {
+        long runs = getRuns();
+        return runs == 0 ? 0 : (double) podiums.get(competitor) / runs;
+    }
+
+    /**
+     * @param competitor Index of the competitor
+     * @return Probability of the competitor getting disqualified
+     */
+    public double getDisqualificationProbability(int competitor) {
+        long runs = getRuns();
+        return runs == 0 ? 0 : (double) disqualifications.get(competitor) / runs;
+    }
+
+    /**
+     * Calculates a percentile of the best distances of a competitor, competitions
+     * in which the competitor got disqualified are not taken into account.
+     * The distances are assumed to be spread evenly within a bin, so the result
+     * is interpolated between its edges and accurate to {@link TournamentResults#getBinWidth()} meters.
+     *
+     * @param competitor Index of the competitor
+     * @param percentile Percentile in the range of 0 to 100
+     * @return Best distance that has not been exceeded in the given percentage of competitions,
+     * 0 if the competitor has been disqualified in every competition
+     */
+    public double getPercentile(int competitor, double percentile) {
+        long total = getRuns() - disqualifications.get(competitor);
+        if (total == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int j = 0; j < bins; j++) {
+            int count = histogram.get(competitor * bins + j);
+            if (seen + count >= rank)
+                return (j + (double) (rank - seen) / count) * binWidth;
+            seen += count;
+        }
+
+        return (bins - 1) * binWidth;
+    }
+}
@@ -0,0 +1,215 @@
+package dev.modex.skisprungsimulator.objects;
+
+import dev.modex.skisprungsimulator.enums.Attribute;
+import dev.modex.skisprungsimulator.enums.FirstName;
+import dev.modex.skisprungsimulator.enums.LastName;
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@link VirtualRoster} class is a {@link Roster} of random competitors
+ * that does not store any attributes. Every competitor has its own random
+ * stream derived from the seed of the roster and their position, so each
+ * attribute is calculated whenever it is requested by skipping to its value
+ * in the stream, without creating a generator. The memory used by the roster
+ * does not depend on its size, which allows fields far larger than the heap.
+ * The competitor at position i has the same attributes as one added with
+ * {@link Roster#addRandom(CustomRandom)} using a generator seeded with
+ * {@code CustomRandom.seedOf(seed, i)} and the same distributions,
+ * see {@link Roster#setDistribution(Attribute, Distribution)}.
+ * Only the {@link Jumper} objects that have been requested are kept,
+ * e.g. those of the printed results.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class VirtualRoster extends Roster {
+
+    /**
+     * Position of each value in the stream of a competitor,
+     * in the order {@link Roster#addRandom(CustomRandom)} draws them
+     */
+    private static final int FIRST_NAME = 0, AGE = 2, SPEED = 3, POWER = 4, TIMING = 5, LANDING = 6;
+
+    /**
+     * How many competitors are in the roster
+     */
+    private final int size;
+
+    /**
+     * Seed the attributes of every competitor are derived from
+     */
+    private final long seed;
+
+    /**
+     * {@link Jumper} object of every competitor that has been requested
+     */
+    private final Map<Integer, Jumper> cache;
+
+    /**
+     * Position of every competitor whose {@link Jumper} object exists
+     */
+    private final Map<Jumper, Integer> cachedIndices;
+
+    /**
+     * @param size How many competitors are in the roster
+     * @param seed Seed the attributes of every competitor are derived from
+     * @throws IllegalArgumentException If the size is below 0
+     */
+    public VirtualRoster(int size, long seed) {
+        super(0);
+        if (size < 0)
+            throw new IllegalArgumentException();
+
+        this.size = size;
+        this.seed = seed;
+        this.cache = new ConcurrentHashMap<>();
+        this.cachedIndices = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @param value Position of the value in the stream of the competitor
+     * @return Generator that draws the requested value next
+     */
+    private CustomRandom stream(int index, int value) {
+        return new CustomRandom(CustomRandom.seedOf(seed, index)).skip(value);
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @param value Position of the value in the stream of the competitor
+     * @return Requested value as a double between inclusively 0 and exclusively 1
+     */
+    private double uniform(int index, int value) {
+        return CustomRandom.doubleAt(CustomRandom.seedOf(seed, index), value);
+    }
+
+    /**
+     * Competitors can not be added to a virtual roster.
+     *
+     * @throws UnsupportedOperationException Always
+     */
+    @Override
+    public int add(int nameId, int age, double speed, double power, double timing, double landing) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Competitors can not be added to a virtual roster.
+     *
+     * @throws UnsupportedOperationException Always
+     */
+    @Override
+    public int addRandom(int count, CustomRandom random, ForkJoinPool pool) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Does nothing, since there are no arrays to grow.
+     *
+     * @param capacity How many competitors the roster should be able to hold
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+    }
+
+    /**
+     * Returns the {@link Jumper} object of a competitor. It is created
+     * the first time it is requested and the same object is returned afterwards.
+     *
+     * @param index Position of the competitor
+     * @return Jumper object of the competitor
+     */
+    @Override
+    public Jumper getJumper(int index) {
+        Objects.checkIndex(index, size);
+        return cache.computeIfAbsent(index, j -> {
+            Jumper jumper = new Jumper(getName(j), getAge(j), getSpeed(j), getPower(j), getTiming(j), getLanding(j));
+            cachedIndices.put(jumper, j);
+            return jumper;
+        });
+    }
+
+    /**
+     * @param jumper Jumper object of a competitor
+     * @return Position of the competitor, -1 if the jumper is not in the roster
+     */
+    @Override
+    public int indexOf(Jumper jumper) {
+        return cachedIndices.getOrDefault(jumper, -1);
+    }
+
+    /**
+     * @return How many competitors are in the roster
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Seed the attributes of every competitor are derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Id of the name of the competitor, see {@link Roster#packName(FirstName, LastName)}
+     */
+    @Override
+    public int getNameId(int index) {
+        CustomRandom random = stream(index, FIRST_NAME);
+        return packName(FirstName.random(random), LastName.random(random));
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Age of the competitor
+     */
+    @Override
+    public int getAge(int index) {
+        return CustomRandom.intAt(CustomRandom.seedOf(seed, index), AGE, 20, 50);
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Speed of the competitor
+     */
+    @Override
+    public double getSpeed(int index) {
+        return sample(Attribute.SPEED, uniform(index, SPEED));
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Jumping power of the competitor
+     */
+    @Override
+    public double getPower(int index) {
+        return sample(Attribute.POWER, uniform(index, POWER));
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Timing of the competitor
+     */
+    @Override
+    public double getTiming(int index) {
+        return sample(Attribute.TIMING, uniform(index, TIMING));
+    }
+
+    /**
+     * @param index Position of the competitor
+     * @return Landing value of the competitor
+     */
+    @Override
+    public double getLanding(int index) {
+        return sample(Attribute.LANDING, uniform(index, LANDING));
+    }
+}
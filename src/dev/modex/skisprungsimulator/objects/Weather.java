@@ -0,0 +1,141 @@
+package dev.modex.skisprungsimulator.objects;
+
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+
+/**
+ * The {@link Weather} class describes how the wind changes during a round.
+ * Instead of an independent wind for every jump, the wind of a round is an
+ * AR(1) series: it stays close to the wind of the previous jump and slowly
+ * returns to the mean wind of the round, which is drawn for every round.
+ * The persistence decides how long a gust lasts and the gustiness how
+ * strong the wind varies. The jury moves the start down when the wind gets
+ * too strong and up when it turns into tailwind, waiting a few jumpers between
+ * changes. Every jump is compensated for its wind and gate with points.
+ * <p>
+ * The conditions of a round are generated in bulk as a {@link WindField}
+ * from a seed, so they do not depend on how the jumps are calculated.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Weather {
+
+    /**
+     * Strongest wind in m/s, in either direction
+     */
+    private static final double MAX_WIND = 3;
+
+    /**
+     * Strongest mean wind of a round in m/s, in either direction
+     */
+    private static final double MAX_MEAN_WIND = 1.5;
+
+    /**
+     * Wind in m/s at which the jury moves the start
+     */
+    private static final double GATE_THRESHOLD = 1.5;
+
+    /**
+     * How many jumpers the jury waits at least between two gate changes
+     */
+    private static final int GATE_INTERVAL = 10;
+
+    /**
+     * How many gates the start can be moved in either direction
+     */
+    private static final int MAX_GATE = 5;
+
+    /**
+     * Factor of the wind of the previous jump, between 0 and 1
+     */
+    private final double persistence;
+
+    /**
+     * Standard deviation of the wind around the mean wind of a round in m/s
+     */
+    private final double gustiness;
+
+    /**
+     * @param persistence Factor of the wind of the previous jump, between 0 (inclusive) and 1 (exclusive)
+     * @param gustiness   Standard deviation of the wind around the mean wind of a round in m/s
+     * @throws IllegalArgumentException If a value is out of range
+     */
+    public Weather(double persistence, double gustiness) {
+        if (!(persistence >= 0 && persistence < 1) || !(gustiness >= 0))
+            throw new IllegalArgumentException();
+
+        this.persistence = persistence;
+        this.gustiness = gustiness;
+    }
+
+    /**
+     * Parses weather, e.g. {@code 0.9:1} for a persistence of 0.9 and a gustiness of 1 m/s.
+     *
+     * @param weather Text describing the weather
+     * @return Parsed weather
+     * @throws IllegalArgumentException If the text is not valid weather
+     */
+    public static Weather parse(String weather) {
+        int separator = weather.indexOf(':');
+        if (separator == -1)
+            throw new IllegalArgumentException();
+
+        return new Weather(Double.parseDouble(weather.substring(0, separator)), Double.parseDouble(weather.substring(separator + 1)));
+    }
+
+    /**
+     * Generates the conditions of a round.
+     *
+     * @param profile Profile of the ramp the round takes place on
+     * @param seed    Seed of the round
+     * @param size    How many jumps the round has
+     * @return Conditions of every jump of the round
+     */
+    public WindField generate(RampProfile profile, long seed, int size) {
+        CustomRandom random = new CustomRandom(seed);
+        double[] wind = new double[size];
+        int[] gate = new int[size];
+        double[] compensation = new double[size];
+
+        double mean = random.nextDouble(-MAX_MEAN_WIND, MAX_MEAN_WIND);
+        // Uniform noise with a variance of 1 keeps the series bounded and the deviation at the gustiness
+        double noise = gustiness * Math.sqrt(1 - persistence * persistence) * Math.sqrt(3);
+        double current = mean + gustiness * Math.sqrt(3) * random.nextDouble(-1, 1);
+        int currentGate = 0;
+        int lastChange = -GATE_INTERVAL;
+
+        for (int k = 0; k < size; k++) {
+            if (k > 0)
+                current = mean + persistence * (current - mean) + noise * random.nextDouble(-1, 1);
+            wind[k] = Math.max(-MAX_WIND, Math.min(MAX_WIND, current));
+
+            if (k - lastChange >= GATE_INTERVAL) {
+                if (wind[k] > GATE_THRESHOLD && currentGate > -MAX_GATE) {
+                    currentGate--;
+                    lastChange = k;
+                } else if (wind[k] < -GATE_THRESHOLD && currentGate < MAX_GATE) {
+                    currentGate++;
+                    lastChange = k;
+                }
+            }
+
+            gate[k] = currentGate;
+            compensation[k] = profile.compensation(wind[k], currentGate);
+        }
+
+        return new WindField(wind, gate, compensation);
+    }
+
+    /**
+     * @return Factor of the wind of the previous jump
+     */
+    public double getPersistence() {
+        return persistence;
+    }
+
+    /**
+     * @return Standard deviation of the wind around the mean wind of a round in m/s
+     */
+    public double getGustiness() {
+        return gustiness;
+    }
+}
@@ -0,0 +1,76 @@
+package dev.modex.skisprungsimulator.objects;
+
+/**
+ * The {@link WindField} class holds the conditions of one round, generated
+ * in bulk by {@link Weather#generate(RampProfile, long, int)} before the round
+ * is simulated. Every value is indexed by the start position of the jump,
+ * so a jump only reads the arrays and the same conditions can be replayed
+ * by any number of threads or runs.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public final class WindField {
+
+    /**
+     * Wind of each jump in m/s, positive if it helps the jumper
+     */
+    private final double[] wind;
+
+    /**
+     * Gates the start has been moved up for each jump, negative if it has been moved down
+     */
+    private final int[] gate;
+
+    /**
+     * Compensation points of each jump, see {@link RampProfile#compensation(double, int)}
+     */
+    private final double[] compensation;
+
+    /**
+     * Uses the arrays without copying them, all arrays need to have the same length.
+     *
+     * @param wind         Wind of each jump in m/s
+     * @param gate         Gates the start has been moved up for each jump
+     * @param compensation Compensation points of each jump
+     * @throws IllegalArgumentException If the arrays have different lengths
+     */
+    WindField(double[] wind, int[] gate, double[] compensation) {
+        if (gate.length != wind.length || compensation.length != wind.length)
+            throw new IllegalArgumentException();
+
+        this.wind = wind;
+        this.gate = gate;
+        this.compensation = compensation;
+    }
+
+    /**
+     * @param position Start position of the jump in the round
+     * @return Wind of the jump in m/s, positive if it helps the jumper
+     */
+    public double getWind(int position) {
+        return wind[position];
+    }
+
+    /**
+     * @param position Start position of the jump in the round
+     * @return Gates the start has been moved up, negative if it has been moved down
+     */
+    public int getGate(int position) {
+        return gate[position];
+    }
+
+    /**
+     * @param position Start position of the jump in the round
+     * @return Compensation points of the jump
+     */
+    public double getCompensation(int position) {
+        return compensation[position];
+    }
+
+    /**
+     * @return How many jumps the field holds conditions for
+     */
+    public int size() {
+        return wind.length;
+    }
+}
@@ -0,0 +1,156 @@
+package dev.modex.skisprungsimulator.objects;
+
+import java.util.Arrays;
+
+/**
+ * The {@link WorldCupStandings} class sums up the World Cup points of every
+ * jumper over a season. The jumpers are kept sorted by their points: since
+ * only the top 30 of an event receive points, and points never decrease,
+ * a jumper who receives points is moved up past the jumpers with fewer points
+ * instead of sorting everyone after each event. Jumpers with the same
+ * points are listed in the order they reached them, but share a rank.
+ * Jumpers are referenced by their position in the {@link Roster}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class WorldCupStandings {
+
+    /**
+     * Points awarded for each place of an event, starting with 1st place
+     */
+    private static final int[] POINTS = {100, 80, 60, 50, 45, 40, 36, 32, 29, 26, 24, 22, 20, 18, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1};
+
+    /**
+     * Points of each jumper
+     */
+    private final int[] points;
+
+    /**
+     * Positions of the jumpers, sorted descendingly by their points
+     */
+    private final int[] order;
+
+    /**
+     * Index of each jumper in the order
+     */
+    private final int[] ranks;
+
+    /**
+     * How many events have been added
+     */
+    private int events;
+
+    /**
+     * @param jumpers How many jumpers take part in the season
+     */
+    public WorldCupStandings(int jumpers) {
+        points = new int[jumpers];
+        order = new int[jumpers];
+        ranks = new int[jumpers];
+        for (int j = 0; j < jumpers; j++) {
+            order[j] = j;
+            ranks[j] = j;
+        }
+    }
+
+    /**
+     * @return How many places of an event receive points
+     */
+    public static int getScoringPlaces() {
+        return POINTS.length;
+    }
+
+    /**
+     * @param place Place in an event, starting at 1
+     * @return Points awarded for the place, 0 if it does not receive points
+     */
+    public static int getPoints(int place) {
+        return (place >= 1 && place <= POINTS.length) ? POINTS[place - 1] : 0;
+    }
+
+    /**
+     * Awards the points of an event.
+     *
+     * @param ranking Positions of the jumpers who finished the event, sorted by their place.
+     *                Only the first {@link WorldCupStandings#getScoringPlaces()} receive points.
+     */
+    public synchronized void addEvent(int[] ranking) {
+        for (int place = 0; place < Math.min(ranking.length, POINTS.length); place++)
+            addPoints(ranking[place], POINTS[place]);
+        events++;
+    }
+
+    /**
+     * Adds points to a jumper and moves them up accordingly.
+     *
+     * @param jumper Position of the jumper
+     * @param amount Points that should be added, not below 0
+     * @throws IllegalArgumentException If the amount is below 0
+     */
+    public synchronized void addPoints(int jumper, int amount) {
+        if (amount < 0)
+            throw new IllegalArgumentException();
+
+        int value = points[jumper] += amount;
+        int rank = ranks[jumper];
+        while (rank > 0 && points[order[rank - 1]] < value) {
+            order[rank] = order[rank - 1];
+            ranks[order[rank]] = rank;
+            rank--;
+        }
+
+        order[rank] = jumper;
+        ranks[jumper] = rank;
+    }
+
+    /**
+     * @param jumper Position of the jumper
+     * @return Points of the jumper
+     */
+    public synchronized int getPointsOf(int jumper) {
+        return points[jumper];
+    }
+
+    /**
+     * Jumpers with the same points share a rank, the first of them in the order
+     * is found by a binary search, since the order is sorted by the points.
+     *
+     * @param jumper Position of the jumper
+     * @return Current rank of the jumper, starting at 1
+     */
+    public synchronized int getRank(int jumper) {
+        int value = points[jumper];
+        int low = 0, high = ranks[jumper];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (points[order[mid]] > value)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        return low + 1;
+    }
+
+    /**
+     * @param size How many jumpers should be returned
+     * @return Positions of the best jumpers, sorted by their points
+     */
+    public synchronized int[] top(int size) {
+        return Arrays.copyOf(order, Math.min(size, order.length));
+    }
+
+    /**
+     * @return How many events have been added
+     */
+    public synchronized int getEvents() {
+        return events;
+    }
+
+    /**
+     * @return How many jumpers take part in the season
+     */
+    public int size() {
+        return points.length;
+    }
+}
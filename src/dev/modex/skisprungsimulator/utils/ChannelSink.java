@@ -0,0 +1,158 @@
+package dev.modex.skisprungsimulator.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@link ChannelSink} class encodes the output as UTF-8 into
+ * a direct buffer and writes it straight to a {@link FileChannel}.
+ * A surrogate pair that is split between two writes is kept until
+ * the next write, characters that cannot be encoded are replaced.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class ChannelSink implements ResultSink {
+
+    /**
+     * Size of the buffer in bytes
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Channel the output is written to
+     */
+    private final FileChannel channel;
+
+    /**
+     * Encoder used to convert the text into bytes
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * Buffer holding the encoded bytes until they are written
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * High surrogate at the end of the last write, waiting for its low surrogate
+     */
+    private final CharBuffer remainder = CharBuffer.allocate(2);
+
+    /**
+     * Creates or truncates the given file
+     *
+     * @param path Path of the file the output should be written to
+     * @throws IOException If the file could not be opened
+     */
+    public ChannelSink(Path path) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    /**
+     * @param channel Channel the output should be written to
+     */
+    public ChannelSink(FileChannel channel) {
+        this.channel = channel;
+        this.encoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * Encodes the text into the buffer, which is written
+     * to the channel whenever it is full
+     *
+     * @param text Formatted text that should be written
+     * @throws IOException If the text could not be written
+     */
+    @Override
+    public void write(CharSequence text) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        if (remainder.position() > 0 && chars.hasRemaining()) {
+            remainder.put(chars.get()).flip();
+            encode(remainder, false);
+            remainder.compact();
+        }
+
+        encode(chars, false);
+        while (chars.hasRemaining())
+            remainder.put(chars.get());
+    }
+
+    /**
+     * Writes the buffered bytes to the channel
+     * @throws IOException If the text could not be written
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    /**
+     * Encodes the rest of the text, flushes the buffer and closes the channel.
+     * Closing the sink again has no effect.
+     *
+     * @throws IOException If the text could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen())
+            return;
+
+        try {
+            remainder.flip();
+            encode(remainder, true);
+            remainder.clear();
+
+            CoderResult result;
+            do {
+                result = encoder.flush(buffer);
+                if (result.isOverflow())
+                    drain();
+            } while (result.isOverflow());
+
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Encodes the chars into the buffer, which is written
+     * to the channel whenever it is full. Chars that cannot be encoded
+     * until more input follows are left in the given buffer.
+     *
+     * @param chars      Chars that should be encoded
+     * @param endOfInput Whether no more chars follow
+     * @throws IOException If the bytes could not be written
+     */
+    private void encode(CharBuffer chars, boolean endOfInput) throws IOException {
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, buffer, endOfInput);
+            if (result.isOverflow())
+                drain();
+            else if (result.isError())
+                result.throwException();
+        } while (result.isOverflow());
+    }
+
+    /**
+     * Writes all bytes of the buffer to the channel
+     *
+     * @throws IOException If the bytes could not be written
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+}
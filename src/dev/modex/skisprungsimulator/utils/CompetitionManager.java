@@ -1,15 +1,30 @@
 package dev.modex.skisprungsimulator.utils;
 
+import dev.modex.skisprungsimulator.enums.Attribute;
 import dev.modex.skisprungsimulator.objects.Competition;
+import dev.modex.skisprungsimulator.objects.CompetitionListener;
+import dev.modex.skisprungsimulator.objects.Distribution;
+import dev.modex.skisprungsimulator.objects.Form;
 import dev.modex.skisprungsimulator.objects.Jumper;
+import dev.modex.skisprungsimulator.objects.QualificationCut;
 import dev.modex.skisprungsimulator.objects.Ramp;
+import dev.modex.skisprungsimulator.objects.RampProfile;
 import dev.modex.skisprungsimulator.objects.Results;
+import dev.modex.skisprungsimulator.objects.Roster;
+import dev.modex.skisprungsimulator.objects.Scoring;
+import dev.modex.skisprungsimulator.objects.TournamentResults;
+import dev.modex.skisprungsimulator.objects.VirtualRoster;
+import dev.modex.skisprungsimulator.objects.Weather;
+import dev.modex.skisprungsimulator.objects.WindField;
+import dev.modex.skisprungsimulator.objects.WorldCupStandings;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.InputMismatchException;
-import java.util.List;
-import java.util.Scanner;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * The {@link CompetitionManager} class initializes and manages a {@link Competition}
@@ -21,7 +36,103 @@ public class CompetitionManager {
     /**
      * {@link Competition} storing all competition data
      */
-    private final Competition competition;
+    private Competition competition;
+
+    /**
+     * Round the competition starts with, rounds before have been
+     * restored from a {@link Snapshot}
+     */
+    private int firstRound;
+
+    /**
+     * File a {@link Snapshot} is written to after every round,
+     * null if no snapshots should be written
+     */
+    private Path checkpoint;
+
+    /**
+     * Pool used to simulate the rounds in parallel,
+     * null if the rounds should be simulated sequentially
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Whether the pool has been created by this manager and has to be shut down by it
+     */
+    private boolean ownsPool;
+
+    /**
+     * Generator used to create random competitors and ramps
+     */
+    private CustomRandom random = new CustomRandom();
+
+    /**
+     * How many competitions should be simulated by {@link CompetitionManager#start()},
+     * 0 to run and print a single competition
+     */
+    private int runs;
+
+    /**
+     * How many of the best jumpers should be printed,
+     * 0 to print all jumpers
+     */
+    private int top;
+
+    /**
+     * Exporter every jump is streamed to while the rounds are simulated,
+     * null if the jumps should not be exported
+     */
+    private JumpExporter exporter;
+
+    /**
+     * Whether the results should be added to the competition,
+     * turned off when they are only exported
+     */
+    private boolean retainResults = true;
+
+    /**
+     * Metrics collected while the competition is simulated,
+     * null if no metrics should be collected
+     */
+    private Metrics metrics;
+
+    /**
+     * Whether {@link CompetitionManager#start()} should run a {@link Season}
+     * with the competitors instead of a single competition
+     */
+    private boolean season;
+
+    /**
+     * Seconds between two reports of the metrics printed to the console,
+     * 0 if the metrics should only be printed after the competition
+     */
+    private long reportInterval;
+
+    /**
+     * Size of the output buffer in chars, once it is exceeded
+     * the buffer will be written to the sink
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Sink the formatted output is written to
+     */
+    private ResultSink sink = new WriterSink();
+
+    /**
+     * Buffer the output is formatted into before it is written to the sink
+     */
+    private final StringBuilder output = new StringBuilder(OUTPUT_BUFFER_SIZE);
+
+    /**
+     * Formatter writing into the output buffer
+     */
+    private final Formatter formatter = new Formatter(output);
+
+    /**
+     * Buffer of each thread the jumps are collected in before they are scored
+     */
+    private final ThreadLocal<JumpBuffer> buffers = ThreadLocal.withInitial(JumpBuffer::new);
 
     /**
      * Default constructor initializing a new {@link Competition}
@@ -55,6 +166,15 @@ public class CompetitionManager {
         competition = new Competition(competitors, ramp);
     }
 
+    /**
+     * Overloaded constructor managing an existing {@link Competition}
+     *
+     * @param competition Competition to be managed
+     */
+    public CompetitionManager(Competition competition) {
+        this.competition = competition;
+    }
+
     /**
      * When starting the program without any command line arguments,
      * the program will ask for two integers, firstly, the number
@@ -65,11 +185,141 @@ public class CompetitionManager {
      * rounds each competitor should jump. The program can also be started
      * with two arguments, each containing the above described numbers
      * to skip the manual initialization sequence.
+     * Additionally, the option {@code --threads <Threads>} can be passed
+     * to simulate the rounds in parallel, see {@link CompetitionManager#setParallelism(int)},
+     * and the option {@code --seed <Seed>} to reproduce a competition,
+     * see {@link CompetitionManager#setSeed(long)}. The option {@code --runs <Runs>}
+     * simulates the competition several times and prints the probabilities
+     * of each jumper, see {@link CompetitionManager#setRuns(int)}. The option
+     * {@code --output <File>} writes the results into a file instead of the console
+     * and {@code --top <Jumpers>} only prints the best jumpers, see {@link CompetitionManager#setTop(int)}.
+     * With {@code --live} the standings are printed after every round, see {@link CompetitionManager#liveStandings()}.
+     * {@code --checkpoint <File>} saves the competition after every round, see {@link CompetitionManager#setCheckpoint(Path)},
+     * and {@code --resume <File>} continues a saved competition instead of creating a new one,
+     * see {@link CompetitionManager#resume(Path)}.
+     * {@code --roster <File>} loads the competitors from a file, see {@link CompetitionManager#loadRoster(Path)},
+     * in which case only the number of rounds is passed, and {@code --export-roster <File>} saves
+     * the competitors into a binary file, see {@link CompetitionManager#exportRoster(Path)}.
+     * {@code --export <File>} streams every jump into a CSV or JSON Lines file, see
+     * {@link CompetitionManager#setExporter(JumpExporter)}, and {@code --no-results} does not keep
+     * the results in memory, see {@link CompetitionManager#setRetainResults(boolean)}.
+     * {@code --metrics} collects and prints metrics of the simulation, see
+     * {@link CompetitionManager#setMetrics(Metrics)}, {@code --metrics-report <Seconds>}
+     * additionally prints them periodically and {@code --jmx} exposes them through JMX.
+     * {@code --difficulty-error <Error>} approximates the difficulty of the landing,
+     * see {@link CompetitionManager#setDifficultyError(double)}.
+     * {@code --cut <Round>:<Jumpers>} only lets the best jumpers advance after a round,
+     * {@code --cut <Round>:<Meters>m} only those who reached a distance, see {@link CompetitionManager#setCut(int, QualificationCut)}.
+     * {@code --weather <Persistence>:<Gustiness>} lets the wind change gradually during a round,
+     * see {@link CompetitionManager#setWeather(Weather)}.
+     * {@code --form <Volatility>:<Fatigue>} changes the attributes of the jumpers from round to round,
+     * see {@link CompetitionManager#setForm(Form)}, and {@code --distribution <Attribute>=<Distribution>}
+     * draws an attribute of the random competitors from another distribution, e.g. {@code speed=normal:6:1.5},
+     * see {@link Distribution#parse(String, double, double)}.
+     * {@code --virtual} calculates the attributes of the random competitors whenever they are needed
+     * instead of storing them, see {@link CompetitionManager#setVirtualCompetitors(int)}.
+     * {@code --season} runs one competition on every ramp and prints the World Cup standings,
+     * see {@link CompetitionManager#season()}.
      *
      * @param args Command line arguments passed from Main
      * @return Current instance of {@link CompetitionManager}
+     * @throws IllegalStateException If the snapshot or the roster could not be loaded
      */
     public CompetitionManager handleArgs(String[] args) {
+        List<String> positional = new ArrayList<>();
+        boolean resumed = false;
+        boolean loaded = false;
+        boolean virtual = false;
+        Path export = null;
+        // Without the snapshot or the roster there is nothing to simulate, so these errors end the program
+        for (int j = 0; j + 1 < args.length; j++) {
+            try {
+                if (args[j].equals("--resume")) {
+                    resume(Path.of(args[j + 1]));
+                    resumed = true;
+                } else if (args[j].equals("--roster")) {
+                    loadRoster(Path.of(args[j + 1]));
+                    loaded = true;
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            } catch (IOException e) {
+                throw new IllegalStateException("The file " + args[j + 1] + " could not be read.", e);
+            }
+        }
+
+        try {
+            for (int j = 0; j < args.length; j++) {
+                if ((args[j].equals("--resume") || args[j].equals("--roster")) && j + 1 < args.length)
+                    j++;
+                else if (args[j].equals("--export-roster") && j + 1 < args.length)
+                    export = Path.of(args[++j]);
+                else if (args[j].equals("--checkpoint") && j + 1 < args.length)
+                    setCheckpoint(Path.of(args[++j]));
+                else if (args[j].equals("--threads") && j + 1 < args.length)
+                    setParallelism(Integer.parseInt(args[++j]));
+                else if (args[j].equals("--seed") && j + 1 < args.length)
+                    setSeed(Long.parseLong(args[++j]));
+                else if (args[j].equals("--runs") && j + 1 < args.length)
+                    setRuns(Integer.parseInt(args[++j]));
+                else if (args[j].equals("--output") && j + 1 < args.length)
+                    setSink(new ChannelSink(Path.of(args[++j])));
+                else if (args[j].equals("--top") && j + 1 < args.length)
+                    setTop(Integer.parseInt(args[++j]));
+                else if (args[j].equals("--export") && j + 1 < args.length)
+                    setExporter(JumpExporter.of(Path.of(args[++j])));
+                else if (args[j].equals("--no-results"))
+                    setRetainResults(false);
+                else if (args[j].equals("--metrics"))
+                    setMetrics(getOrCreateMetrics());
+                else if (args[j].equals("--metrics-report") && j + 1 < args.length)
+                    setMetrics(getOrCreateMetrics()).setReportInterval(Long.parseLong(args[++j]));
+                else if (args[j].equals("--jmx"))
+                    setMetrics(getOrCreateMetrics().registerMBean());
+                else if (args[j].equals("--difficulty-error") && j + 1 < args.length)
+                    setDifficultyError(Double.parseDouble(args[++j]));
+                else if (args[j].equals("--cut") && j + 1 < args.length && args[j + 1].indexOf(':') > 0) {
+                    String cut = args[++j];
+                    setCut(Integer.parseInt(cut.substring(0, cut.indexOf(':'))) - 1, QualificationCut.parse(cut.substring(cut.indexOf(':') + 1)));
+                } else if (args[j].equals("--weather") && j + 1 < args.length)
+                    setWeather(Weather.parse(args[++j]));
+                else if (args[j].equals("--form") && j + 1 < args.length)
+                    setForm(Form.parse(args[++j]));
+                else if (args[j].equals("--distribution") && j + 1 < args.length && args[j + 1].indexOf('=') > 0) {
+                    String distribution = args[++j];
+                    Attribute attribute = Attribute.parse(distribution.substring(0, distribution.indexOf('=')));
+                    setDistribution(attribute, Distribution.parse(distribution.substring(distribution.indexOf('=') + 1), attribute.getMin(), attribute.getMax()));
+                }
+                else if (args[j].equals("--virtual"))
+                    virtual = true;
+                else if (args[j].equals("--season"))
+                    season();
+                else if (args[j].equals("--live"))
+                    liveStandings();
+                else
+                    positional.add(args[j]);
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Please enter valid numbers as arguments.");
+        } catch (IllegalArgumentException e) {
+            System.out.println((e.getMessage() != null) ? e.getMessage() : "Please enter valid numbers as arguments.");
+        } catch (IOException e) {
+            System.out.println("The file " + e.getMessage() + " could not be opened.");
+        }
+        args = positional.toArray(new String[0]);
+
+        if (resumed)
+            return exportRoster(export);
+
+        if (loaded) {
+            try {
+                this.randomRamp().setRounds((args.length > 0) ? Integer.parseInt(args[0]) : 1);
+            } catch (NumberFormatException e) {
+                System.out.println("Please enter valid numbers as arguments.");
+            }
+            return exportRoster(export);
+        }
+
         if (args.length == 0) {
             System.out.print("Please enter how many competitors the competition should have: ");
             int competitors = getInput();
@@ -82,19 +332,24 @@ public class CompetitionManager {
         } else {
             if (args.length != 2) {
                 System.out.println("Invalid arguments.");
-                System.out.println("java -jar Skisprungsimulator.jar <Competitors> <Rounds>\n");
+                System.out.println("java -jar Skisprungsimulator.jar <Competitors> <Rounds> [--threads <Threads>] [--seed <Seed>] [--runs <Runs>] [--output <File>] [--top <Jumpers>] [--live] [--checkpoint <File>] [--export-roster <File>] [--export <File>] [--no-results] [--metrics] [--metrics-report <Seconds>] [--jmx] [--difficulty-error <Error>] [--cut <Round>:<Jumpers>|<Meters>m] [--weather <Persistence>:<Gustiness>] [--form <Volatility>:<Fatigue>] [--distribution <Attribute>=<Distribution>] [--virtual] [--season]\n" +
+                        "java -jar Skisprungsimulator.jar --roster <File> [<Rounds>] [...]\n" +
+                        "java -jar Skisprungsimulator.jar --resume <File> [--checkpoint <File>]\n");
             }
 
             try {
                 int competitors = Integer.parseInt(args[0]);
                 int rounds = Integer.parseInt(args[1]);
-                this.randomRamp().addRandomCompetitors(competitors).setRounds(rounds);
-            } catch (NumberFormatException e) {
+                if (virtual)
+                    this.randomRamp().setVirtualCompetitors(competitors).setRounds(rounds);
+                else
+                    this.randomRamp().addRandomCompetitors(competitors).setRounds(rounds);
+            } catch (IllegalArgumentException e) {
                 System.out.println("Please enter valid numbers as arguments.");
             }
         }
 
-        return this;
+        return exportRoster(export);
     }
 
     /**
@@ -120,16 +375,48 @@ public class CompetitionManager {
 
     /**
      * Adds a specific amount of random competitors to the competition.
+     * They are generated in parallel if a pool has been set and are
+     * the same regardless of how many threads are used.
      *
      * @param size Amount of random competitors to be added
      * @return Current instance of {@link CompetitionManager}
-     * @see Jumper#Jumper()
+     * @throws IllegalArgumentException If size is negative
+     * @see Competition#addRandomJumpers(int, CustomRandom, ForkJoinPool)
      */
     public CompetitionManager addRandomCompetitors(int size) {
+        competition.addRandomJumpers(size, random, pool);
+        return this;
+    }
 
-        for (int i = 0; i < size; i++) {
-            competition.addJumper(new Jumper());
-        }
+    /**
+     * Replaces the competitors with a {@link VirtualRoster} of random competitors,
+     * whose attributes are calculated whenever they are needed instead of being stored.
+     * The roster is derived from the seed, so it is the same for the same seed,
+     * and draws its attributes from the distributions of the current roster.
+     *
+     * @param size Amount of random competitors
+     * @return Current instance of {@link CompetitionManager}
+     * @throws IllegalArgumentException If the size is below 0
+     */
+    public CompetitionManager setVirtualCompetitors(int size) {
+        VirtualRoster roster = new VirtualRoster(size, random.nextLong());
+        for (Attribute attribute : Attribute.values())
+            roster.setDistribution(attribute, competition.getRoster().getDistribution(attribute));
+
+        return setRoster(roster);
+    }
+
+    /**
+     * Sets the distribution an attribute of the random competitors
+     * that are added afterwards is drawn from.
+     *
+     * @param attribute    Attribute whose distribution should be set
+     * @param distribution Distribution the attribute should be drawn from
+     * @return Current instance of {@link CompetitionManager}
+     * @see Roster#setDistribution(Attribute, Distribution)
+     */
+    public CompetitionManager setDistribution(Attribute attribute, Distribution distribution) {
+        competition.getRoster().setDistribution(attribute, distribution);
         return this;
     }
 
@@ -146,10 +433,10 @@ public class CompetitionManager {
      * Initializes a random ramp for the competitors to jump off of.
      *
      * @return Current instance of {@link CompetitionManager}
-     * @see Ramp#Ramp()
+     * @see Ramp#Ramp(CustomRandom)
      */
     public CompetitionManager randomRamp() {
-        competition.setRamp(new Ramp());
+        competition.setRamp(new Ramp(random));
         return this;
     }
 
@@ -163,40 +450,402 @@ public class CompetitionManager {
     }
 
     /**
-     * Used to add a random variance to a given value with a minimum
-     * value of 0 and the maximum value of 10.
+     * Approximates the difficulty of the landing with a lookup table, which is
+     * faster than calculating it with {@link Math#tanh(double)} for every jump.
+     * Jumpers whose landing value is closer to the difficulty than the error
+     * may land where they would have been disqualified or the other way around.
      *
-     * @param val Value where the variance should be added to
-     * @param min Minimum of the variance
-     * @param max Maximum of the variance
-     * @return Value with the variance added to it
+     * @param error Maximum error of the difficulty, 0 to calculate it exactly
+     * @return Current instance of {@link CompetitionManager}
+     * @throws IllegalArgumentException If the error is below 0
+     * @see Competition#setDifficultyError(double)
      */
-    private double addVariance(double val, double min, double max) {
-        return Math.max(0, Math.min(10, val + new CustomRandom().nextDouble(min, max)));
+    public CompetitionManager setDifficultyError(double error) {
+        competition.setDifficultyError(error);
+        return this;
     }
 
     /**
-     * Used to calculate the distance of a jump for a given jumper
+     * Only the given amount of best jumpers will be printed. They are taken
+     * from the leaderboard of the competition, which is updated while the
+     * rounds are simulated, so the results of all jumpers never need to be sorted.
      *
-     * @param jumper Jumper who's jump distance should be calculated
+     * @param top How many jumpers should be printed, 0 to print all jumpers
      * @return Current instance of {@link CompetitionManager}
+     * @throws IllegalArgumentException If top is below 0
+     * @see Competition#getLeaderboard()
      */
-    private double calculateDistance(Jumper jumper) {
-        CustomRandom customRandom = new CustomRandom();
+    public CompetitionManager setTop(int top) {
+        if (top < 0)
+            throw new IllegalArgumentException();
 
-        double windmeter = (customRandom.nextDouble(-3, 3)) * ((competition.getRamp().getHillsize() - 36) / 20);
-        double jumpscore = ((addVariance(jumper.getSpeed(), -2, 2) / 20) + (addVariance(jumper.getPower(), -2, 2) / 20)) * (addVariance(jumper.getTiming(), -2, 2) / 10);
-        double jumpmeter = ((2 * jumpscore) - 1) * competition.getRamp().getHillsize() * 0.1;
+        this.top = top;
+        return this;
+    }
 
-        double distance = competition.getRamp().getKpoint() + windmeter + jumpmeter;
-        double difficulty = (Math.tanh((((distance / competition.getRamp().getHillsize()) / 1.3) * 5) - 3) + 1) * 5;
+    /**
+     * Prints the leaderboard with the current rank of each jumper
+     * after every round, like a broadcast would.
+     *
+     * @return Current instance of {@link CompetitionManager}
+     * @see Competition#addListener(CompetitionListener)
+     */
+    public CompetitionManager liveStandings() {
+        competition.addListener(new CompetitionListener() {
+            @Override
+            public void onRoundEnd(int round, Competition competition) {
+                printStandings(round);
+            }
+        });
+        return this;
+    }
 
-        double landingValue = addVariance(jumper.getLanding(), 0, 2);
+    /**
+     * Lets the wind change gradually during each round instead of drawing an
+     * independent wind for every jump. The jury moves the start with the wind
+     * and the conditions of each round are generated before it is simulated.
+     *
+     * @param weather How the wind changes during a round, null to draw an independent wind for every jump
+     * @return Current instance of {@link CompetitionManager}
+     * @see Weather
+     */
+    public CompetitionManager setWeather(Weather weather) {
+        competition.setWeather(weather);
+        return this;
+    }
 
-        if (landingValue > difficulty)
-            return distance;
-        else
-            return 0d;
+    /**
+     * Lets the form of the jumpers change from round to round. Their speed, power
+     * and timing are multiplied with a factor that drifts between the rounds and
+     * declines because of fatigue.
+     *
+     * @param form How the form of the jumpers changes, null to keep their attributes the same in every round
+     * @return Current instance of {@link CompetitionManager}
+     * @see Form
+     */
+    public CompetitionManager setForm(Form form) {
+        competition.setForm(form);
+        return this;
+    }
+
+    /**
+     * Only lets some of the competitors advance after a round,
+     * the eliminated competitors do not jump in the following rounds.
+     *
+     * @param round Round after which the cut is made, starting at 0
+     * @param cut   Cut deciding who advances, null to let everyone advance
+     * @return Current instance of {@link CompetitionManager}
+     * @throws IllegalArgumentException If round is below 0
+     * @see Competition#setCut(int, QualificationCut)
+     */
+    public CompetitionManager setCut(int round, QualificationCut cut) {
+        if (round < 0)
+            throw new IllegalArgumentException();
+
+        competition.setCut(round, cut);
+        return this;
+    }
+
+    /**
+     * Runs a {@link Season} with one competition on every ramp of
+     * {@link dev.modex.skisprungsimulator.enums.Ramps} instead of a single
+     * competition. The competitors, rounds, seed and cuts of the competition are used,
+     * the events are simulated concurrently on the pool if one has been set.
+     *
+     * @return Current instance of {@link CompetitionManager}
+     */
+    public CompetitionManager season() {
+        this.season = true;
+        return this;
+    }
+
+    /**
+     * Saves the competition into a {@link Snapshot} after every round,
+     * so it can be resumed with {@link CompetitionManager#resume(Path)}.
+     *
+     * @param checkpoint File the snapshot should be written to, null to stop saving
+     * @return Current instance of {@link CompetitionManager}
+     */
+    public CompetitionManager setCheckpoint(Path checkpoint) {
+        this.checkpoint = checkpoint;
+        return this;
+    }
+
+    /**
+     * Replaces the competition with one loaded from a {@link Snapshot}.
+     * {@link CompetitionManager#start()} will continue with the first round
+     * that had not been completed. Since every jump is derived from the seed
+     * of the competition, the results are the same as if the competition
+     * had never been interrupted. The difficulty error, weather, form and cuts
+     * are restored from the snapshot as well.
+     *
+     * @param path File the snapshot should be read from
+     * @return Current instance of {@link CompetitionManager}
+     * @throws IOException If the file could not be read
+     */
+    public CompetitionManager resume(Path path) throws IOException {
+        Snapshot snapshot = Snapshot.read(path);
+        competition = snapshot.getCompetition();
+        firstRound = snapshot.getCompletedRounds();
+        return this;
+    }
+
+    /**
+     * Replaces the competitors with the given roster, the ramp,
+     * the rounds and the seed of the competition are kept.
+     *
+     * @param roster Competitors of the competition
+     * @return Current instance of {@link CompetitionManager}
+     */
+    public CompetitionManager setRoster(Roster roster) {
+        Competition old = competition;
+        competition = new Competition(roster);
+        competition.copySettings(old);
+        return this;
+    }
+
+    /**
+     * Loads the competitors from a CSV or binary file, which is useful for
+     * fields that are too big to be created one by one.
+     *
+     * @param path File the competitors should be read from
+     * @return Current instance of {@link CompetitionManager}
+     * @throws IOException If the file could not be read
+     * @see RosterFile#read(Path)
+     */
+    public CompetitionManager loadRoster(Path path) throws IOException {
+        return setRoster(RosterFile.read(path));
+    }
+
+    /**
+     * Saves the competitors into a binary file, which can be loaded
+     * again with {@link CompetitionManager#loadRoster(Path)}.
+     *
+     * @param path File the competitors should be written to, null to do nothing
+     * @return Current instance of {@link CompetitionManager}
+     * @throws UncheckedIOException If the file could not be written
+     * @see RosterFile#write(Roster, Path)
+     */
+    public CompetitionManager exportRoster(Path path) {
+        if (path == null)
+            return this;
+
+        try {
+            RosterFile.write(competition.getRoster(), path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the sink the results should be written to, by default
+     * they are written to the console through a {@link WriterSink}.
+     * The sink is closed after {@link CompetitionManager#start()}.
+     *
+     * @param sink Sink the results should be written to
+     * @return Current instance of {@link CompetitionManager}
+     * @see ChannelSink
+     * @see NullSink
+     */
+    public CompetitionManager setSink(ResultSink sink) {
+        this.sink = sink;
+        return this;
+    }
+
+    /**
+     * Streams every jump to an exporter while the rounds are simulated.
+     * Competitions simulated with {@link CompetitionManager#setRuns(int)} are not exported.
+     * The exporter is closed after {@link CompetitionManager#start()}.
+     *
+     * @param exporter Exporter the jumps should be written to, null to stop exporting
+     * @return Current instance of {@link CompetitionManager}
+     */
+    public CompetitionManager setExporter(JumpExporter exporter) {
+        this.exporter = exporter;
+        return this;
+    }
+
+    /**
+     * Sets whether the results should be kept in the competition. Without them
+     * a competition of any size can be simulated and exported with constant memory,
+     * e.g. with a {@link VirtualRoster}. Only the leaderboard is kept, so only the best
+     * jump of the best jumpers can be printed and no cuts can be made, running
+     * a competition with cuts without its results is rejected.
+     *
+     * @param retainResults Whether the results should be added to the competition
+     * @return Current instance of {@link CompetitionManager}
+     * @see CompetitionManager#setExporter(JumpExporter)
+     */
+    public CompetitionManager setRetainResults(boolean retainResults) {
+        this.retainResults = retainResults;
+        return this;
+    }
+
+    /**
+     * Collects metrics while the competition is simulated, they are printed
+     * after the results. Without metrics, nothing is measured.
+     *
+     * @param metrics Metrics that should be updated, null to stop collecting metrics
+     * @return Current instance of {@link CompetitionManager}
+     * @see Metrics#snapshot()
+     */
+    public CompetitionManager setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * @return Metrics collected while the competition is simulated, null if none are collected
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return Metrics that have been set, or new metrics if none have been set
+     */
+    private Metrics getOrCreateMetrics() {
+        return (metrics != null) ? metrics : new Metrics();
+    }
+
+    /**
+     * Prints the metrics to the console periodically while the competition is simulated.
+     *
+     * @param seconds Seconds between two reports, 0 to only print them after the competition
+     * @return Current instance of {@link CompetitionManager}
+     * @throws IllegalArgumentException If seconds is below 0
+     * @see Metrics#startReport(long, java.io.PrintStream)
+     */
+    public CompetitionManager setReportInterval(long seconds) {
+        if (seconds < 0)
+            throw new IllegalArgumentException();
+
+        this.reportInterval = seconds;
+        return this;
+    }
+
+    /**
+     * Sets how many independent competitions {@link CompetitionManager#start()}
+     * should simulate. If more than 0, the probabilities of each jumper will be
+     * printed instead of the results of a single competition.
+     *
+     * @param runs Amount of competitions to simulate
+     * @return Current instance of {@link CompetitionManager}
+     * @throws IllegalArgumentException If runs is below 0
+     */
+    public CompetitionManager setRuns(int runs) {
+        if (runs < 0)
+            throw new IllegalArgumentException();
+
+        this.runs = runs;
+        return this;
+    }
+
+    /**
+     * Seeds the competition. Random competitors and ramps added afterwards
+     * as well as every jump will be the same for the same seed,
+     * regardless of how many threads are used.
+     *
+     * @param seed Seed of the competition
+     * @return Current instance of {@link CompetitionManager}
+     */
+    public CompetitionManager setSeed(long seed) {
+        competition.setSeed(seed);
+        random = new CustomRandom(seed);
+        return this;
+    }
+
+    /**
+     * Sets how many threads should be used to simulate the rounds.
+     * With a parallelism of 1 every jump is simulated on the calling thread.
+     * The pool is created by the manager, a pool created before is shut down,
+     * and it is shut down once {@link CompetitionManager#start()} has finished.
+     *
+     * @param threads Amount of threads that should be used
+     * @return Current instance of {@link CompetitionManager}
+     * @throws IllegalArgumentException If threads is below 1
+     */
+    public CompetitionManager setParallelism(int threads) {
+        if (threads < 1)
+            throw new IllegalArgumentException();
+
+        shutdownPool();
+        pool = (threads == 1) ? null : new ForkJoinPool(threads);
+        ownsPool = pool != null;
+        return this;
+    }
+
+    /**
+     * Uses an existing pool to simulate the rounds in parallel.
+     * Passing null will simulate the rounds sequentially.
+     * The pool is never shut down by the manager, a pool created
+     * by {@link CompetitionManager#setParallelism(int)} before is.
+     *
+     * @param pool Pool the rounds should be simulated on
+     * @return Current instance of {@link CompetitionManager}
+     */
+    public CompetitionManager setExecutor(ForkJoinPool pool) {
+        shutdownPool();
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Shuts the pool down if it has been created by this manager,
+     * the following rounds are simulated sequentially.
+     */
+    private void shutdownPool() {
+        if (!ownsPool)
+            return;
+
+        pool.shutdown();
+        pool = null;
+        ownsPool = false;
+    }
+
+    /**
+     * Used to calculate the distance of a jump for a given jumper
+     * off the ramp of the current competition
+     *
+     * @param jumper       Jumper who's jump distance should be calculated
+     * @param customRandom Generator seeded for this jump
+     * @return Distance of the jump, 0 if the jumper did not manage to land
+     */
+    public double calculateDistance(Jumper jumper, CustomRandom customRandom) {
+        return calculateDistance(jumper.getSpeed(), jumper.getPower(), jumper.getTiming(), jumper.getLanding(), customRandom);
+    }
+
+    /**
+     * Used to calculate the distance of a jump from the attributes
+     * of a jumper, e.g. taken from the {@link Roster}
+     *
+     * @param speed        Speed of the jumper
+     * @param power        Jumping power of the jumper
+     * @param timing       Timing of the jumper
+     * @param landing      Landing value of the jumper
+     * @param customRandom Generator seeded for this jump
+     * @return Distance of the jump, 0 if the jumper did not manage to land
+     * @see RampProfile#distance(double, double, double, double, CustomRandom)
+     */
+    public double calculateDistance(double speed, double power, double timing, double landing, CustomRandom customRandom) {
+        return competition.getProfile().distance(speed, power, timing, landing, customRandom);
+    }
+
+    /**
+     * Used to calculate the distance of a jump from the attributes
+     * of a jumper with wind that has already been drawn
+     *
+     * @param speed        Speed of the jumper
+     * @param power        Jumping power of the jumper
+     * @param timing       Timing of the jumper
+     * @param landing      Landing value of the jumper
+     * @param wind         Wind during the jump in m/s, between -3 and 3
+     * @param customRandom Generator seeded for this jump, the wind has to be its first value
+     * @return Distance of the jump, 0 if the jumper did not manage to land
+     */
+    public double calculateDistance(double speed, double power, double timing, double landing, double wind, CustomRandom customRandom) {
+        return competition.getProfile().distance(speed, power, timing, landing, wind, customRandom);
     }
 
     /**
@@ -205,19 +854,19 @@ public class CompetitionManager {
      * they will be jumping.
      */
     private void printInfo() {
-        System.out.println("Ski Jumping competition " + new SimpleDateFormat("dd.MM.yyy 'at' HH:mm:ss z").format(new Date(System.currentTimeMillis())) + "\n");
-        System.out.println("Today's Ramp: \n" + competition.getRamp().toString() + "\n");
+        println("Ski Jumping competition " + new SimpleDateFormat("dd.MM.yyy 'at' HH:mm:ss z").format(new Date(System.currentTimeMillis())) + "\n");
+        println("Today's Ramp: \n" + competition.getRamp().toString() + "\n");
 
         if (competition.getCompetitors().size() > 1)
             if (competition.getRounds() > 1)
-                System.out.println("Today's competition has " + competition.getCompetitors().size() + " competitors and will go on for " + competition.getRounds() + " rounds!\n");
+                println("Today's competition has " + competition.getCompetitors().size() + " competitors and will go on for " + competition.getRounds() + " rounds!\n");
             else
-                System.out.println("Today's competition has " + competition.getCompetitors().size() + " competitors and will go on for 1 round!\n");
+                println("Today's competition has " + competition.getCompetitors().size() + " competitors and will go on for 1 round!\n");
         else
             if (competition.getRounds() > 1)
-                System.out.println("Today's competition has 1 competitor and will go on for " + competition.getRounds() + " rounds!\n");
+                println("Today's competition has 1 competitor and will go on for " + competition.getRounds() + " rounds!\n");
             else
-                System.out.println("Today's competition has 1 competitor and will go on for 1 round!\n");
+                println("Today's competition has 1 competitor and will go on for 1 round!\n");
     }
 
     /**
@@ -229,6 +878,7 @@ public class CompetitionManager {
      * @param results Results of the given jumper
      */
     private void print(Jumper jumper, Results results) {
+        long time = (metrics != null) ? System.nanoTime() : 0;
         if (competition.getRounds() > 1)
             if (!results.disqualified())
                 printMultipleRounds(jumper, results);
@@ -239,6 +889,12 @@ public class CompetitionManager {
                 printSingleRound(jumper, results);
             else
                 printDisqualified(jumper);
+
+        if (output.length() >= OUTPUT_BUFFER_SIZE)
+            flushOutput();
+
+        if (metrics != null)
+            metrics.recordOutput(System.nanoTime() - time);
     }
 
     /**
@@ -249,16 +905,17 @@ public class CompetitionManager {
      */
     private void printDisqualified(Jumper jumper) {
         if (competition.getRounds() > 1)
-            System.out.printf("%s couldn't manage to hit any landing and got disqualified%n", jumper.getName());
+            formatter.format("%s couldn't manage to hit any landing and got disqualified%n", jumper.getName());
         else
-            System.out.printf("%s couldn't manage to hit the landing and got disqualified%n", jumper.getName());
+            formatter.format("%s couldn't manage to hit the landing and got disqualified%n", jumper.getName());
     }
 
     /**
      * Used to keep track of how many jumpers' informations have
      * been printed already, to find out which rank they got.
+     * Reset whenever the results are printed.
      */
-    private static int i = 0;
+    private int printed;
 
     /**
      * Used to print a given jumper's results when multiple rounds have been jumped
@@ -267,25 +924,25 @@ public class CompetitionManager {
      * @param results Results of a given jumper
      */
     private void printMultipleRounds(Jumper jumper, Results results) {
-        i++;
+        printed++;
         if (getRankString() != null)
-            System.out.printf("%s's best jump was %.2fm and they got %s place! (", jumper.getName(), results.getBest(), getRankString());
+            formatter.format("%s's best jump was %.2fm and they got %s place! (", jumper.getName(), results.getBest(), getRankString());
         else
-            System.out.printf("%s's best jump was %.2fm (", jumper.getName(), results.getBest());
+            formatter.format("%s's best jump was %.2fm (", jumper.getName(), results.getBest());
 
-        for (int j = 0; j < results.getResults().size(); j++) {
+        for (int j = 0; j < results.size(); j++) {
             if (results.getResult(j) == 0)
-                System.out.print("--");
+                output.append("--");
             else
-                System.out.printf("%.2fm", results.getResult(j));
+                formatter.format("%.2fm", results.getResult(j));
 
-            if (j < results.getResults().size() - 1)
-                System.out.print(", ");
+            if (j < results.size() - 1)
+                output.append(", ");
         }
 
-        System.out.println(")");
-        if (i == 3)
-            System.out.println("\n");
+        formatter.format(") %.1f points%n", results.getPoints());
+        if (printed == 3)
+            println("\n");
     }
 
     /**
@@ -295,42 +952,631 @@ public class CompetitionManager {
      * @param results Results of a given jumper
      */
     private void printSingleRound(Jumper jumper, Results results) {
-        i++;
+        printed++;
         if (getRankString() != null)
-            System.out.printf("%s jumped %.2fm and got %s place!", jumper.getName(), results.getBest(), getRankString());
+            formatter.format("%s jumped %.2fm (%.1f points) and got %s place!", jumper.getName(), results.getBest(), results.getPoints(), getRankString());
         else
-            System.out.printf("%s jumped %.2fm", jumper.getName(), results.getBest());
-        System.out.println();
-        if (i == 3)
-            System.out.println("\n");
+            formatter.format("%s jumped %.2fm (%.1f points)", jumper.getName(), results.getBest(), results.getPoints());
+        println("");
+        if (printed == 3)
+            println("\n");
     }
 
     /**
      * @return Formatted number of rank
      */
     private String getRankString() {
-        return (i == 1) ? "1st" : (i == 2) ? "2nd" : (i == 3) ? "3rd" : null;
+        return (printed == 1) ? "1st" : (printed == 2) ? "2nd" : (printed == 3) ? "3rd" : null;
+    }
+
+    /**
+     * Prints the jumpers on the leaderboard with their current rank.
+     *
+     * @param round Round that has finished, starting at 0
+     */
+    private void printStandings(int round) {
+        formatter.format("Standings after round %d:%n", round + 1);
+        competition.topResults().forEach((jumper, results) ->
+                formatter.format("%d. %s %.1f points%n", competition.getRank(jumper), jumper.getName(), results.getPoints()));
+        println("");
+    }
+
+    /**
+     * Prints the jumpers on the leaderboard with their best jump,
+     * used when the results have not been kept.
+     */
+    private void printLeaderboard() {
+        int[] leaders = competition.getLeaderboard().top();
+        double[] best = competition.getLeaderboard().values();
+        for (int place = 0; place < leaders.length && best[place] > 0; place++)
+            formatter.format("%d. %s %.2fm%n", place + 1, competition.getRoster().getName(leaders[place]), best[place]);
+    }
+
+    /**
+     * Appends a line to the output buffer
+     *
+     * @param line Line that should be printed
+     */
+    private void println(String line) {
+        output.append(line).append(System.lineSeparator());
+    }
+
+    /**
+     * Writes the output buffer to the sink and clears it afterwards.
+     *
+     * @throws UncheckedIOException If the output could not be written
+     */
+    private void flushOutput() {
+        try {
+            sink.write(output);
+            output.setLength(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
      * Starts the competition. First, the info will be printed,
      * then every jumper will get a result for a number of rounds. Once all results
-     * have been calculated, the sorted results will be printed.
+     * have been calculated, the sorted results will be printed, or only the
+     * leaderboard if the amount of printed jumpers has been limited.
+     * If a number of runs has been set, the competition will be simulated
+     * that many times instead and the probabilities of each jumper will be printed.
+     * The sink and the exporter are closed afterwards, output written to the console
+     * or collected in memory stays usable.
      *
+     * @throws IllegalStateException If cuts should be made without retaining the results
      * @see CompetitionManager#printInfo()
-     * @see CompetitionManager#calculateDistance(Jumper)
+     * @see CompetitionManager#calculateDistance(Jumper, CustomRandom)
      * @see Competition#addResult(Jumper, Double)
      * @see Competition#sortResults()
+     * @see Competition#getLeaderboard()
      * @see CompetitionManager#print(Jumper, Results)
+     * @see CompetitionManager#simulate(int)
      */
     public void start() {
+        if (!season)
+            checkCuts();
+
+        if (metrics != null && reportInterval > 0)
+            metrics.startReport(reportInterval, System.out);
+
+        if (season) {
+            long time = System.nanoTime();
+            Season season = new Season(competition.getRoster()).setRounds(competition.getRounds()).setSeed(competition.getSeed())
+                    .setDifficultyError(competition.getDifficultyError()).setWeather(competition.getWeather()).setForm(competition.getForm()).setExecutor(pool);
+            for (int round = 0; round < competition.getRounds(); round++)
+                season.setCut(round, competition.getCut(round));
+            printSeason(season, season.run(), (System.nanoTime() - time) / 1e9);
+            finish();
+            return;
+        }
+
         printInfo();
 
-        for (int i = 0; i < competition.getRounds(); i++) {
-            for (Jumper competitor : competition.getCompetitors()) {
-                competition.addResult(competitor, calculateDistance(competitor));
+        if (runs > 0) {
+            long time = System.nanoTime();
+            TournamentResults results = simulate(runs);
+            printTournament(results, (System.nanoTime() - time) / 1e9);
+            finish();
+            return;
+        }
+
+        if (top > 0 && top != competition.getLeaderboard().getCapacity())
+            competition.setLeaderboardSize(top);
+
+        run();
+        if (!retainResults) {
+            println("The results have not been kept, best jumps:");
+            printLeaderboard();
+        } else {
+            long time = (metrics != null) ? System.nanoTime() : 0;
+            Map<Jumper, Results> results = (top > 0) ? competition.topResults() : competition.sortResults();
+            if (metrics != null)
+                metrics.recordSort(System.nanoTime() - time);
+
+            printed = 0;
+            results.forEach(this::print);
+        }
+        finish();
+    }
+
+    /**
+     * Cuts select the competitors by their points, which are only known if the results are retained.
+     *
+     * @throws IllegalStateException If cuts should be made without retaining the results
+     */
+    private void checkCuts() {
+        if (!retainResults && competition.hasCuts())
+            throw new IllegalStateException("Cuts can not be made if the results are not kept.");
+    }
+
+    /**
+     * Simulates all rounds that have not been simulated yet without printing anything.
+     * The metrics and checkpoints are updated after every round and only the
+     * competitors who made the cut of the previous round jump.
+     *
+     * @return Competition containing the results
+     * @throws IllegalStateException If cuts should be made without retaining the results
+     */
+    public Competition run() {
+        checkCuts();
+
+        // A snapshot restores the competitors who jumped in the last completed round, the cut after it is made again
+        if (firstRound > 0)
+            competition.applyCut(firstRound - 1);
+
+        for (int i = firstRound; i < competition.getRounds(); i++) {
+            long time = (metrics != null) ? System.nanoTime() : 0;
+            int[] active = competition.getActive();
+            int size = (active == null) ? competition.getRoster().size() : active.length;
+            WindField field = competition.windField(i, size);
+            double[] form = competition.formFactors(i);
+            if (pool == null)
+                simulateRound(i, active, field, form, 0, size);
+            else
+                pool.invoke(new RoundTask(i, active, field, form, 0, size));
+
+            if (metrics != null)
+                metrics.recordRound(System.nanoTime() - time);
+
+            competition.endRound(i);
+            competition.applyCut(i);
+
+            if (checkpoint != null)
+                saveCheckpoint(i + 1);
+        }
+        firstRound = competition.getRounds();
+
+        return competition;
+    }
+
+    /**
+     * Prints the podium of every event of a season and the World Cup standings.
+     *
+     * @param season    Season that has been simulated
+     * @param standings World Cup standings after the last event
+     * @param seconds   How long the season took in seconds
+     */
+    private void printSeason(Season season, WorldCupStandings standings, double seconds) {
+        println("Ski Jumping season " + new SimpleDateFormat("dd.MM.yyy 'at' HH:mm:ss z").format(new Date(System.currentTimeMillis())) + "\n");
+        formatter.format("This season has %d competitors and %d events with %d round(s) each, simulated in %.2fs%n%n",
+                season.getRoster().size(), season.getCalendar().size(), competition.getRounds(), seconds);
+
+        for (int event = 0; event < season.getCalendar().size(); event++) {
+            formatter.format("%d. %s (%s):", event + 1, season.getCalendar().get(event).getName(), season.getCalendar().get(event).getLocation());
+            int[] ranking = season.getRanking(event);
+            for (int place = 0; place < Math.min(3, ranking.length); place++)
+                formatter.format(" %d. %s", place + 1, season.getRoster().getName(ranking[place]));
+            println("");
+        }
+
+        println("\nWorld Cup standings:");
+        for (int jumper : standings.top((top > 0) ? top : WorldCupStandings.getScoringPlaces())) {
+            formatter.format("%d. %s %d points%n", standings.getRank(jumper), season.getRoster().getName(jumper), standings.getPointsOf(jumper));
+            if (output.length() >= OUTPUT_BUFFER_SIZE)
+                flushOutput();
+        }
+    }
+
+    /**
+     * Writes a {@link Snapshot} of the competition to the checkpoint file.
+     *
+     * @param completedRounds How many rounds have been completed
+     * @throws UncheckedIOException If the snapshot could not be written
+     */
+    private void saveCheckpoint(int completedRounds) {
+        try {
+            Snapshot.write(competition, completedRounds, checkpoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Prints the metrics, writes the remaining output to the sink
+     * and closes it and the exporter. The console stays open.
+     * A pool created by the manager is shut down.
+     *
+     * @throws UncheckedIOException If the output could not be written
+     */
+    private void finish() {
+        shutdownPool();
+        if (metrics != null) {
+            metrics.stopReport();
+            println("\n" + metrics.snapshot());
+        }
+
+        flushOutput();
+        try {
+            try {
+                sink.close();
+            } finally {
+                if (exporter != null)
+                    exporter.close();
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Simulates a number of independent competitions with the current competitors
+     * and ramp. Every competition is derived from the seed of the competition
+     * and its number, so the results do not depend on how many threads are used.
+     * If weather has been set, the conditions are generated once and every
+     * competition is held under the same conditions. If a form has been set,
+     * it changes independently in every competition.
+     * All workers add their competitions to the same {@link TournamentResults}.
+     * The results of the competition itself are not changed.
+     *
+     * @param runs Amount of competitions to simulate
+     * @return Aggregated results of all competitions
+     * @throws IllegalArgumentException If there are too many competitors for the histogram of the results
+     * @throws IllegalStateException    If a cut has been set, every jumper jumps in every round of these competitions
+     */
+    public TournamentResults simulate(int runs) {
+        if (competition.hasCuts())
+            throw new IllegalStateException("Cuts can not be made when simulating several competitions.");
+
+        WindField[] fields = new WindField[competition.getRounds()];
+        for (int round = 0; round < fields.length; round++)
+            fields[round] = competition.windField(round, competition.getRoster().size());
+
+        TournamentResults results = new TournamentResults(competition.getCompetitors(), competition.getRamp().getHillsize() * 1.5);
+        if (pool == null)
+            simulateRuns(0, runs, fields, results);
+        else
+            pool.invoke(new TournamentTask(0, runs, Math.max(1, runs / (pool.getParallelism() * 4)), fields, results));
+
+        return results;
+    }
+
+    /**
+     * Simulates the competitions in the given range. Only the best result,
+     * the points and the amount of valid results of each jumper are kept per competition.
+     *
+     * @param from   Number of the first competition (inclusive)
+     * @param to     Number of the last competition (exclusive)
+     * @param fields  Conditions of each round, null entries if every jump draws its own wind
+     * @param results Results the competitions are added to
+     */
+    private void simulateRuns(int from, int to, WindField[] fields, TournamentResults results) {
+        Roster roster = competition.getRoster();
+        double[] best = new double[roster.size()];
+        int[] valid = new int[roster.size()];
+        double[] points = new double[roster.size()];
+        RampProfile profile = competition.getProfile();
+        Scoring scoring = competition.getScoring();
+        Form form = competition.getForm();
+        double[][] factors = (form != null) ? new double[competition.getRounds()][roster.size()] : null;
+        CustomRandom customRandom = new CustomRandom(0);
+        long allocated = (metrics != null) ? metrics.allocatedBytes() : 0;
+        int disqualifications = 0;
+
+        for (int run = from; run < to; run++) {
+            long seed = CustomRandom.seedOf(competition.getSeed(), run);
+            if (form != null)
+                for (int round = 0; round < factors.length; round++)
+                    form.advance((round > 0) ? factors[round - 1] : null, factors[round], roster.size(), seed, round);
+
+            for (int j = 0; j < roster.size(); j++) {
+                best[j] = Double.NEGATIVE_INFINITY;
+                valid[j] = 0;
+                points[j] = 0;
+
+                for (int round = 0; round < competition.getRounds(); round++) {
+                    customRandom.setSeed(Competition.jumpSeed(seed, j, round));
+                    WindField field = fields[round];
+                    double factor = (factors == null) ? 1 : factors[round][j];
+                    double distance = (field == null)
+                            ? profile.distance(roster.getSpeed(j) * factor, roster.getPower(j) * factor, roster.getTiming(j) * factor, roster.getLanding(j), customRandom)
+                            : profile.distance(roster.getSpeed(j) * factor, roster.getPower(j) * factor, roster.getTiming(j) * factor, roster.getLanding(j), field.getWind(j), field.getGate(j), customRandom);
+                    if (distance != 0)
+                        valid[j]++;
+                    else
+                        disqualifications++;
+                    if (distance > best[j])
+                        best[j] = distance;
+                    points[j] += scoring.points(distance, roster.getLanding(j), customRandom.nextLong(), (field == null) ? 0 : field.getCompensation(j));
+                }
+            }
+            results.addRun(best, valid, points);
+        }
+
+        if (metrics != null)
+            metrics.addJumps((long) (to - from) * roster.size() * competition.getRounds(), disqualifications, metrics.allocatedBytes() - allocated);
+    }
+
+    /**
+     * Prints the probabilities of each jumper, sorted by the
+     * probability of winning and of getting on the podium.
+     *
+     * @param results Aggregated results of all competitions
+     * @param seconds How long the simulation took in seconds
+     */
+    private void printTournament(TournamentResults results, double seconds) {
+        formatter.format("Simulated %d competitions in %.2fs (%.0f competitions/s)%n%n", results.getRuns(), seconds, results.getRuns() / seconds);
+
+        List<Integer> order = new ArrayList<>(results.getCompetitors().size());
+        for (int j = 0; j < results.getCompetitors().size(); j++)
+            order.add(j);
+        order.sort(Comparator.<Integer>comparingDouble(results::getWinProbability).thenComparingDouble(results::getPodiumProbability).reversed());
+
+        for (int j : order) {
+            formatter.format("%s: %.2f%% win, %.2f%% podium, %.2f%% disqualified, best jump %.1fm / %.1fm / %.1fm (10th / 50th / 90th percentile)%n",
+                    results.getCompetitors().get(j).getName(), results.getWinProbability(j) * 100, results.getPodiumProbability(j) * 100,
+                    results.getDisqualificationProbability(j) * 100, results.getPercentile(j, 10), results.getPercentile(j, 50), results.getPercentile(j, 90));
+
+            if (output.length() >= OUTPUT_BUFFER_SIZE)
+                flushOutput();
+        }
+    }
+
+    /**
+     * Simulates one jump for every competitor in the given range.
+     * The attributes are read straight from the {@link Roster},
+     * no {@link Jumper} objects are needed. If an exporter has been set,
+     * the jumps of the range are exported in batches.
+     *
+     * @param round  Current round
+     * @param active Positions of the competitors taking part in the round, null if everyone takes part
+     * @param field  Conditions of the round, null if every jump draws its own wind
+     * @param form   Form factor of every competitor in the round, null if the attributes do not change
+     * @param from   Index of the first competitor (inclusive)
+     * @param to     Index of the last competitor (exclusive)
+     */
+    private void simulateRound(int round, int[] active, WindField field, double[] form, int from, int to) {
+        Roster roster = competition.getRoster();
+        CustomRandom customRandom = new CustomRandom(0);
+        RampProfile profile = competition.getProfile();
+        Scoring scoring = competition.getScoring();
+        JumpBuffer buffer = buffers.get();
+        StringBuilder records = (exporter != null) ? new StringBuilder() : null;
+        long allocated = (metrics != null) ? metrics.allocatedBytes() : 0;
+        int disqualifications = 0;
+        for (int start = from; start < to; start += JumpBuffer.SIZE) {
+            int end = Math.min(to, start + JumpBuffer.SIZE);
+            for (int k = start; k < end; k++) {
+                int j = (active == null) ? k : active[k];
+                int b = k - start;
+                double factor = (form == null) ? 1 : form[j];
+                customRandom.setSeed(competition.jumpSeed(j, round));
+                if (field == null) {
+                    buffer.wind[b] = customRandom.nextDouble(-3, 3);
+                    buffer.distances[b] = profile.distance(roster.getSpeed(j) * factor, roster.getPower(j) * factor, roster.getTiming(j) * factor, roster.getLanding(j), buffer.wind[b], customRandom);
+                    buffer.compensations[b] = 0;
+                } else {
+                    buffer.wind[b] = field.getWind(k);
+                    buffer.distances[b] = profile.distance(roster.getSpeed(j) * factor, roster.getPower(j) * factor, roster.getTiming(j) * factor, roster.getLanding(j), buffer.wind[b], field.getGate(k), customRandom);
+                    buffer.compensations[b] = field.getCompensation(k);
+                }
+                buffer.landings[b] = roster.getLanding(j);
+                // Drawn after the jump, so the style marks do not change its distance
+                buffer.marks[b] = customRandom.nextLong();
+            }
+
+            scoring.score(buffer.distances, buffer.landings, buffer.marks, buffer.compensations, buffer.points, end - start);
+
+            for (int k = start; k < end; k++) {
+                int j = (active == null) ? k : active[k];
+                int b = k - start;
+                double distance = buffer.distances[b];
+                if (distance == 0)
+                    disqualifications++;
+
+                if (retainResults)
+                    competition.addResult(j, distance, buffer.points[b]);
+                else
+                    competition.getLeaderboard().offer(j, distance);
+
+                if (records != null) {
+                    exporter.append(records, roster, j, round, distance, buffer.wind[b], buffer.points[b]);
+                    if (records.length() >= JumpExporter.BATCH_SIZE)
+                        exportRecords(records);
+                }
+            }
+        }
+
+        if (records != null && records.length() > 0)
+            exportRecords(records);
+
+        if (metrics != null)
+            metrics.addJumps(to - from, disqualifications, metrics.allocatedBytes() - allocated);
+    }
+
+    /**
+     * Writes a batch of exported jumps
+     *
+     * @param records Buffer containing the records
+     * @throws UncheckedIOException If the records could not be written
+     */
+    private void exportRecords(StringBuilder records) {
+        try {
+            exporter.write(records);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The {@link JumpBuffer} holds the values of a block of jumps,
+     * so they can be scored in bulk once the block has been simulated.
+     */
+    private static class JumpBuffer {
+
+        /**
+         * How many jumps a buffer holds
+         */
+        static final int SIZE = 1024;
+
+        /**
+         * Distance of each jump
+         */
+        final double[] distances = new double[SIZE];
+
+        /**
+         * Wind of each jump
+         */
+        final double[] wind = new double[SIZE];
+
+        /**
+         * Landing value of the jumper of each jump
+         */
+        final double[] landings = new double[SIZE];
+
+        /**
+         * Random value the style marks of each jump are taken from
+         */
+        final long[] marks = new long[SIZE];
+
+        /**
+         * Compensation points of each jump
+         */
+        final double[] compensations = new double[SIZE];
+
+        /**
+         * Points of each jump
+         */
+        final double[] points = new double[SIZE];
+    }
+
+    /**
+     * The {@link RoundTask} splits the competitors of one round
+     * into chunks which are simulated by the workers of the pool.
+     */
+    @SuppressWarnings("serial")
+    private class RoundTask extends RecursiveAction {
+
+        /**
+         * Minimum amount of competitors simulated by one task
+         */
+        private static final int THRESHOLD = 1024;
+
+        /**
+         * Current round
+         */
+        private final int round;
+
+        /**
+         * Positions of the competitors taking part in the round, null if everyone takes part
+         */
+        private final int[] active;
+
+        /**
+         * Conditions of the round, null if every jump draws its own wind
+         */
+        private final WindField field;
+
+        /**
+         * Form factor of every competitor in the round, null if the attributes do not change
+         */
+        private final double[] form;
+
+        /**
+         * Index of the first competitor (inclusive)
+         */
+        private final int from;
+
+        /**
+         * Index of the last competitor (exclusive)
+         */
+        private final int to;
+
+        /**
+         * @param round  Current round
+         * @param active Positions of the competitors taking part in the round, null if everyone takes part
+         * @param field  Conditions of the round, null if every jump draws its own wind
+         * @param form   Form factor of every competitor in the round, null if the attributes do not change
+         * @param from   Index of the first competitor (inclusive)
+         * @param to     Index of the last competitor (exclusive)
+         */
+        RoundTask(int round, int[] active, WindField field, double[] form, int from, int to) {
+            this.round = round;
+            this.active = active;
+            this.field = field;
+            this.form = form;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Simulates the range directly if it is small enough,
+         * otherwise splits it in half.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                simulateRound(round, active, field, form, from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new RoundTask(round, active, field, form, from, middle), new RoundTask(round, active, field, form, middle, to));
+        }
+    }
+
+    /**
+     * The {@link TournamentTask} splits a number of competitions
+     * into chunks which are simulated by the workers of the pool.
+     * Every chunk adds its competitions to the shared results.
+     */
+    @SuppressWarnings("serial")
+    private class TournamentTask extends RecursiveAction {
+
+        /**
+         * Number of the first competition (inclusive)
+         */
+        private final int from;
+
+        /**
+         * Number of the last competition (exclusive)
+         */
+        private final int to;
+
+        /**
+         * Maximum amount of competitions simulated by one task
+         */
+        private final int threshold;
+
+        /**
+         * Conditions of each round, shared by every competition
+         */
+        private final WindField[] fields;
+
+        /**
+         * Results the competitions are added to
+         */
+        private final TournamentResults results;
+
+        /**
+         * @param from      Number of the first competition (inclusive)
+         * @param to        Number of the last competition (exclusive)
+         * @param threshold Maximum amount of competitions simulated by one task
+         * @param fields    Conditions of each round, shared by every competition
+         * @param results   Results the competitions are added to
+         */
+        TournamentTask(int from, int to, int threshold, WindField[] fields, TournamentResults results) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.fields = fields;
+            this.results = results;
+        }
+
+        /**
+         * Simulates the range directly if it is small enough,
+         * otherwise splits it in half.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                simulateRuns(from, to, fields, results);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new TournamentTask(from, middle, threshold, fields, results), new TournamentTask(middle, to, threshold, fields, results));
         }
-        competition.sortResults().forEach(this::print);
     }
 }
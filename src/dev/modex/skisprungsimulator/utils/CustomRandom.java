@@ -1,15 +1,163 @@
 package dev.modex.skisprungsimulator.utils;
 
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The {@link CustomRandom} class is a utility class to easily
  * retrieve random values in a given boundry for double and integer numbers.
+ * It is a seedable generator based on the SplitMix64 algorithm that is also
+ * used by {@link SplittableRandom}. Unlike {@link SplittableRandom} an instance
+ * can be reseeded, so a single instance per thread can be reused for many
+ * independent streams without allocating anything.
  *
  * @author Modex / Thomas Spatz & Simon Garzon
  */
 public class CustomRandom {
 
+    /**
+     * Increment of the SplitMix64 algorithm (odd approximation of 2^64 / golden ratio)
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Current state of the generator
+     */
+    private long seed;
+
+    /**
+     * Default constructor initializes the generator with a random seed
+     */
+    public CustomRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Overloaded constructor initializes the generator with a given seed.
+     * Two generators with the same seed return the same values.
+     *
+     * @param seed Seed of the generator
+     */
+    public CustomRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param seed New seed of the generator
+     * @return Current instance of {@link CustomRandom}
+     */
+    public CustomRandom setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * @return New generator whose values are independent of this one
+     */
+    public CustomRandom split() {
+        return new CustomRandom(mix64(nextLong()));
+    }
+
+    /**
+     * @return New generator in the same state, which draws the same values as this one
+     */
+    public CustomRandom copy() {
+        return new CustomRandom(seed);
+    }
+
+    /**
+     * Skips values without calculating them. Since every value only depends
+     * on the seed and how many values have been drawn before, a single value
+     * of a stream can be read without drawing the ones before it.
+     *
+     * @param n How many values should be skipped
+     * @return Current instance of {@link CustomRandom}
+     */
+    public CustomRandom skip(long n) {
+        seed += n * GOLDEN_GAMMA;
+        return this;
+    }
+
+    /**
+     * Derives the seed of an independent stream from a base seed,
+     * e.g. one stream per jumper and round.
+     *
+     * @param seed   Base seed
+     * @param stream Number of the stream
+     * @return Seed of the given stream
+     */
+    public static long seedOf(long seed, long stream) {
+        return mix64(seed ^ mix64(stream * GOLDEN_GAMMA + GOLDEN_GAMMA));
+    }
+
+    /**
+     * Calculates the value a generator with the given seed draws after
+     * skipping n values, without creating a generator.
+     *
+     * @param seed Seed of the generator
+     * @param n    How many values are skipped
+     * @return Random long, the same as {@code new CustomRandom(seed).skip(n).nextLong()}
+     */
+    public static long longAt(long seed, long n) {
+        return mix64(seed + (n + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * @param seed Seed of the generator
+     * @param n    How many values are skipped
+     * @return Random double, the same as {@code new CustomRandom(seed).skip(n).nextDouble()}
+     * @see CustomRandom#longAt(long, long)
+     */
+    public static double doubleAt(long seed, long n) {
+        return toDouble(longAt(seed, n));
+    }
+
+    /**
+     * @param seed Seed of the generator
+     * @param n    How many values are skipped
+     * @param min  Minimum integer that should be returned
+     * @param max  Maximum integer that should be returned
+     * @return Random integer, the same as {@code new CustomRandom(seed).skip(n).nextInt(min, max)}
+     * @see CustomRandom#longAt(long, long)
+     */
+    public static int intAt(long seed, long n, int min, int max) {
+        return toInt(longAt(seed, n), min, max);
+    }
+
+    /**
+     * Finalizer of the SplitMix64 algorithm
+     *
+     * @param z Value to mix
+     * @return Mixed value
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return Random long
+     */
+    public long nextLong() {
+        return mix64(seed += GOLDEN_GAMMA);
+    }
+
+    /**
+     * @return Random double between inclusively 0 and exclusively 1
+     */
+    public double nextDouble() {
+        return toDouble(nextLong());
+    }
+
+    /**
+     * @param value Random long
+     * @return Double between inclusively 0 and exclusively 1 taken from the upper 53 bits of the value
+     */
+    private static double toDouble(long value) {
+        return (value >>> 11) * 0x1.0p-53;
+    }
+
     /**
      * Returns a random integer in the given boundry
      *
@@ -18,7 +166,17 @@ public class CustomRandom {
      * @return Number between inclusively min and max
      */
     public int nextInt(int min, int max) {
-        return ThreadLocalRandom.current().nextInt(min, max + 1);
+        return toInt(nextLong(), min, max);
+    }
+
+    /**
+     * @param value Random long
+     * @param min   Minimum integer that should be returned
+     * @param max   Maximum integer that should be returned
+     * @return Number between inclusively min and max taken from the upper 32 bits of the value
+     */
+    private static int toInt(long value, int min, int max) {
+        return min + (int) (((value >>> 32) * ((long) max - min + 1)) >>> 32);
     }
 
     /**
@@ -28,7 +186,7 @@ public class CustomRandom {
      * @return Integer between inclusively 0 and max
      */
     public int nextInt(int max) {
-        return ThreadLocalRandom.current().nextInt(0, max + 1);
+        return nextInt(0, max);
     }
 
     /**
@@ -39,7 +197,7 @@ public class CustomRandom {
      * @return Double between inclusively min and max
      */
     public double nextDouble(double min, double max) {
-        return ThreadLocalRandom.current().nextDouble(min, max);
+        return min + nextDouble() * (max - min);
     }
 
     /**
@@ -49,6 +207,6 @@ public class CustomRandom {
      * @return Double between inclusively 0 and max
      */
     public double nextDouble(double max) {
-        return ThreadLocalRandom.current().nextDouble(0, max);
+        return nextDouble(0, max);
     }
 }
@@ -0,0 +1,148 @@
+package dev.modex.skisprungsimulator.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link Histogram} class counts positive values, e.g. durations in
+ * nanoseconds, in logarithmic buckets. Every power of two is split into
+ * {@code 2^SUB_BUCKET_BITS} linear buckets, so any value from 0 to
+ * {@link Long#MAX_VALUE} is stored in a fixed array with a relative error
+ * of at most 1/16. Values can be recorded concurrently without locking.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Histogram {
+
+    /**
+     * Amount of bits used for the linear buckets within a power of two
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * Amount of linear buckets within a power of two
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Amount of values in each bucket
+     */
+    private final AtomicLongArray buckets;
+
+    /**
+     * Amount of recorded values
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Sum of all recorded values
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Highest recorded value
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Default constructor initializing empty buckets
+     */
+    public Histogram() {
+        buckets = new AtomicLongArray((64 - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS);
+    }
+
+    /**
+     * @param value Value that should be counted, negative values are counted as 0
+     */
+    public void record(long value) {
+        value = Math.max(0, value);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * @param value Value that should be counted
+     * @return Index of the bucket counting the value
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * @param index Index of a bucket
+     * @return Lowest value counted by the bucket
+     */
+    private static long lowerBound(int index) {
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        if (shift < 0)
+            return index;
+
+        return (long) ((index & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * @return Copy of the histogram, which is not changed by values recorded afterwards
+     */
+    public Histogram copy() {
+        Histogram ret = new Histogram();
+        for (int j = 0; j < buckets.length(); j++)
+            ret.buckets.set(j, buckets.get(j));
+        ret.count.add(count.sum());
+        ret.sum.add(sum.sum());
+        ret.max.accumulate(max.get());
+        return ret;
+    }
+
+    /**
+     * @return Amount of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return Sum of all recorded values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return Average of all recorded values, 0 if none have been recorded
+     */
+    public double getMean() {
+        long count = getCount();
+        return (count == 0) ? 0 : (double) getSum() / count;
+    }
+
+    /**
+     * @return Highest recorded value, 0 if none have been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile Percentile between 0 and 100
+     * @return Lowest value of the bucket the percentile falls into,
+     * 0 if no values have been recorded
+     */
+    public long getPercentile(double percentile) {
+        long target = (long) Math.ceil(getCount() * percentile / 100);
+        long seen = 0;
+        for (int j = 0; j < buckets.length(); j++) {
+            seen += buckets.get(j);
+            if (seen >= Math.max(1, target))
+                return Math.min(lowerBound(j), getMax());
+        }
+
+        return 0;
+    }
+}
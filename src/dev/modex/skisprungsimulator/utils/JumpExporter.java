@@ -0,0 +1,178 @@
+package dev.modex.skisprungsimulator.utils;
+
+import dev.modex.skisprungsimulator.objects.Roster;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * The {@link JumpExporter} class streams one record per jump into a
+ * {@link ResultSink} while a competition is simulated, either as CSV or as
+ * JSON Lines. The records are formatted into a buffer owned by the calling
+ * thread and handed to the sink in batches, so the memory used by the export
+ * does not depend on the size of the competition. Records of different
+ * threads may be interleaved, every record contains the position of the
+ * jumper and the round it belongs to.
+ * <p>
+ * Every record consists of the position of the jumper in the {@link Roster},
+ * the name, the round (starting at 1), the distance, the wind in m/s,
+ * the points and whether the jumper missed the landing.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class JumpExporter implements Closeable {
+
+    /**
+     * Formats the records can be written in
+     */
+    public enum Format {
+        CSV, JSONL
+    }
+
+    /**
+     * Size of a batch in chars, once a buffer exceeds it
+     * the buffer should be written to the sink
+     */
+    public static final int BATCH_SIZE = 1 << 16;
+
+    /**
+     * Sink the records are written to
+     */
+    private final ResultSink sink;
+
+    /**
+     * Format of the records
+     */
+    private final Format format;
+
+    /**
+     * Writes the header of the format, if it has one.
+     *
+     * @param sink   Sink the records should be written to
+     * @param format Format of the records
+     * @throws IOException If the header could not be written
+     */
+    public JumpExporter(ResultSink sink, Format format) throws IOException {
+        this.sink = sink;
+        this.format = format;
+
+        if (format == Format.CSV)
+            sink.write("jumper,name,round,distance,wind,points,disqualified\n");
+    }
+
+    /**
+     * Creates an exporter writing into a file, files ending with {@code .jsonl}
+     * or {@code .json} are written as JSON Lines, all other files as CSV.
+     *
+     * @param path File the records should be written to
+     * @return New exporter
+     * @throws IOException If the file could not be opened
+     */
+    public static JumpExporter of(Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        Format format = (name.endsWith(".jsonl") || name.endsWith(".json")) ? Format.JSONL : Format.CSV;
+        return new JumpExporter(new ChannelSink(path), format);
+    }
+
+    /**
+     * Formats the record of a jump into a buffer, which should be passed
+     * to {@link JumpExporter#write(StringBuilder)} once it exceeds {@link JumpExporter#BATCH_SIZE}.
+     *
+     * @param out      Buffer the record should be appended to
+     * @param roster   Roster of the competition
+     * @param jumper   Position of the jumper
+     * @param round    Round of the jump, starting at 0
+     * @param distance Distance of the jump, 0 if the jumper did not manage to land
+     * @param wind     Wind during the jump in m/s
+     * @param points   Points of the jump
+     */
+    public void append(StringBuilder out, Roster roster, int jumper, int round, double distance, double wind, double points) {
+        if (format == Format.CSV) {
+            out.append(jumper).append(',');
+            appendCsv(out, roster.getName(jumper));
+            out.append(',').append(round + 1).append(',').append(distance).append(',').append(wind).append(',').append(points).append(',').append(distance == 0).append('\n');
+        } else {
+            out.append("{\"jumper\":").append(jumper).append(",\"name\":");
+            appendJson(out, roster.getName(jumper));
+            out.append(",\"round\":").append(round + 1).append(",\"distance\":").append(distance)
+                    .append(",\"wind\":").append(wind).append(",\"points\":").append(points).append(",\"disqualified\":").append(distance == 0).append("}\n");
+        }
+    }
+
+    /**
+     * Writes a batch of records to the sink and clears the buffer afterwards.
+     * May be called concurrently, the batches are never interleaved.
+     *
+     * @param out Buffer containing the records
+     * @throws IOException If the records could not be written
+     */
+    public void write(StringBuilder out) throws IOException {
+        synchronized (sink) {
+            sink.write(out);
+        }
+        out.setLength(0);
+    }
+
+    /**
+     * @throws IOException If the records could not be written
+     */
+    public void flush() throws IOException {
+        synchronized (sink) {
+            sink.flush();
+        }
+    }
+
+    /**
+     * @throws IOException If the sink could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (sink) {
+            sink.close();
+        }
+    }
+
+    /**
+     * Appends a value as a CSV field, quoting it if needed
+     *
+     * @param out   Buffer the field should be appended to
+     * @param value Value of the field
+     */
+    private static void appendCsv(StringBuilder out, String value) {
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1) {
+            out.append(value);
+            return;
+        }
+
+        out.append('"');
+        for (int j = 0; j < value.length(); j++) {
+            char c = value.charAt(j);
+            if (c == '"')
+                out.append('"');
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    /**
+     * Appends a value as a JSON string
+     *
+     * @param out   Buffer the string should be appended to
+     * @param value Value of the string
+     */
+    private static void appendJson(StringBuilder out, String value) {
+        out.append('"');
+        for (int j = 0; j < value.length(); j++) {
+            char c = value.charAt(j);
+            if (c == '"' || c == '\\')
+                out.append('\\').append(c);
+            else if (c < 0x20)
+                out.append(String.format("\\u%04x", (int) c));
+            else
+                out.append(c);
+        }
+        out.append('"');
+    }
+}
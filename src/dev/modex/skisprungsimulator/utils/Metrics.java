@@ -0,0 +1,394 @@
+package dev.modex.skisprungsimulator.utils;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link Metrics} class collects counters and timings while the
+ * {@link CompetitionManager} simulates a competition: simulated jumps,
+ * disqualifications, allocated bytes, the time of every round and the
+ * time spent sorting and printing the results. Every simulating thread
+ * counts its jumps locally and adds them once per chunk, so the counters
+ * are not contended. Without metrics the manager only checks for null.
+ * <p>
+ * The current values can be read with {@link Metrics#snapshot()},
+ * printed periodically with {@link Metrics#startReport(long, PrintStream)}
+ * or watched through JMX after calling {@link Metrics#registerMBean()}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Metrics implements MetricsMXBean {
+
+    /**
+     * Name the metrics are registered with through JMX
+     */
+    public static final String OBJECT_NAME = "dev.modex.skisprungsimulator:type=Metrics";
+
+    /**
+     * Thread bean used to measure the allocated bytes of the current thread,
+     * null if the JVM does not support it
+     */
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocationBean();
+
+    /**
+     * How many jumps have been simulated
+     */
+    private final LongAdder jumps = new LongAdder();
+
+    /**
+     * How many jumpers did not manage to land
+     */
+    private final LongAdder disqualifications = new LongAdder();
+
+    /**
+     * How many bytes have been allocated while simulating jumps
+     */
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    /**
+     * Time needed to simulate each round in nanoseconds
+     */
+    private final Histogram roundTime = new Histogram();
+
+    /**
+     * Time needed to sort the results in nanoseconds
+     */
+    private final Histogram sortTime = new Histogram();
+
+    /**
+     * Time needed to print the results of a jumper in nanoseconds
+     */
+    private final Histogram outputTime = new Histogram();
+
+    /**
+     * Executor printing the periodic report, null if no report is printed
+     */
+    private ScheduledExecutorService reporter;
+
+    /**
+     * @return Thread bean measuring allocations, null if not supported
+     */
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean))
+            return null;
+
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+        if (!allocations.isThreadAllocatedMemorySupported())
+            return null;
+
+        allocations.setThreadAllocatedMemoryEnabled(true);
+        return allocations;
+    }
+
+    /**
+     * @return How many bytes the current thread has allocated so far, 0 if not supported
+     */
+    public long allocatedBytes() {
+        return (ALLOCATIONS == null) ? 0 : ALLOCATIONS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Adds the jumps simulated by a thread.
+     *
+     * @param jumps             How many jumps have been simulated
+     * @param disqualifications How many jumpers did not manage to land
+     * @param allocatedBytes    How many bytes have been allocated while simulating
+     */
+    public void addJumps(long jumps, long disqualifications, long allocatedBytes) {
+        this.jumps.add(jumps);
+        this.disqualifications.add(disqualifications);
+        this.allocatedBytes.add(allocatedBytes);
+    }
+
+    /**
+     * @param nanos Time needed to simulate a round in nanoseconds
+     */
+    public void recordRound(long nanos) {
+        roundTime.record(nanos);
+    }
+
+    /**
+     * @param nanos Time needed to sort the results in nanoseconds
+     */
+    public void recordSort(long nanos) {
+        sortTime.record(nanos);
+    }
+
+    /**
+     * @param nanos Time needed to print results in nanoseconds
+     */
+    public void recordOutput(long nanos) {
+        outputTime.record(nanos);
+    }
+
+    /**
+     * @return Copy of the current values
+     */
+    public Reading snapshot() {
+        return new Reading(jumps.sum(), disqualifications.sum(), (ALLOCATIONS == null) ? -1 : allocatedBytes.sum(),
+                roundTime.copy(), sortTime.copy(), outputTime.copy());
+    }
+
+    /**
+     * Prints the current values periodically on a daemon thread
+     * until {@link Metrics#stopReport()} is called.
+     *
+     * @param seconds Seconds between two reports
+     * @param out     Stream the reports should be printed to
+     * @return Current instance of {@link Metrics}
+     * @throws IllegalArgumentException If seconds is below 1
+     */
+    public synchronized Metrics startReport(long seconds, PrintStream out) {
+        if (seconds < 1)
+            throw new IllegalArgumentException();
+
+        stopReport();
+        reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> out.println(snapshot()), seconds, seconds, TimeUnit.SECONDS);
+        return this;
+    }
+
+    /**
+     * Stops printing the periodic report.
+     */
+    public synchronized void stopReport() {
+        if (reporter != null)
+            reporter.shutdownNow();
+        reporter = null;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under {@link Metrics#OBJECT_NAME},
+     * replacing metrics that have been registered before.
+     *
+     * @return Current instance of {@link Metrics}
+     * @throws IllegalStateException If the metrics could not be registered
+     */
+    public Metrics registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name))
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+        return this;
+    }
+
+    /**
+     * @return How many jumps have been simulated
+     */
+    @Override
+    public long getJumps() {
+        return jumps.sum();
+    }
+
+    /**
+     * @return How many jumpers did not manage to land
+     */
+    @Override
+    public long getDisqualifications() {
+        return disqualifications.sum();
+    }
+
+    /**
+     * @return Share of jumps where the jumper did not manage to land
+     */
+    @Override
+    public double getDisqualificationRate() {
+        return snapshot().getDisqualificationRate();
+    }
+
+    /**
+     * @return Average amount of bytes allocated per simulated jump, -1 if not supported
+     */
+    @Override
+    public double getAllocatedBytesPerJump() {
+        return snapshot().getAllocatedBytesPerJump();
+    }
+
+    /**
+     * @return How many rounds have been simulated
+     */
+    @Override
+    public long getRounds() {
+        return roundTime.getCount();
+    }
+
+    /**
+     * @return Average time needed to simulate a round in milliseconds
+     */
+    @Override
+    public double getMeanRoundMillis() {
+        return roundTime.getMean() / 1e6;
+    }
+
+    /**
+     * @return 99th percentile of the time needed to simulate a round in milliseconds
+     */
+    @Override
+    public double getP99RoundMillis() {
+        return roundTime.getPercentile(99) / 1e6;
+    }
+
+    /**
+     * @return Total time spent sorting results in milliseconds
+     */
+    @Override
+    public double getSortMillis() {
+        return sortTime.getSum() / 1e6;
+    }
+
+    /**
+     * @return Total time spent printing results in milliseconds
+     */
+    @Override
+    public double getOutputMillis() {
+        return outputTime.getSum() / 1e6;
+    }
+
+    /**
+     * The {@link Reading} class holds the values of the metrics
+     * at the time {@link Metrics#snapshot()} was called.
+     */
+    public static class Reading {
+
+        /**
+         * How many jumps have been simulated
+         */
+        private final long jumps;
+
+        /**
+         * How many jumpers did not manage to land
+         */
+        private final long disqualifications;
+
+        /**
+         * How many bytes have been allocated while simulating jumps, -1 if not supported
+         */
+        private final long allocatedBytes;
+
+        /**
+         * Time needed to simulate each round in nanoseconds
+         */
+        private final Histogram roundTime;
+
+        /**
+         * Time needed to sort the results in nanoseconds
+         */
+        private final Histogram sortTime;
+
+        /**
+         * Time needed to print the results of a jumper in nanoseconds
+         */
+        private final Histogram outputTime;
+
+        /**
+         * @param jumps             How many jumps have been simulated
+         * @param disqualifications How many jumpers did not manage to land
+         * @param allocatedBytes    How many bytes have been allocated while simulating jumps, -1 if not supported
+         * @param roundTime         Time needed to simulate each round in nanoseconds
+         * @param sortTime          Time needed to sort the results in nanoseconds
+         * @param outputTime        Time needed to print the results of a jumper in nanoseconds
+         */
+        private Reading(long jumps, long disqualifications, long allocatedBytes, Histogram roundTime, Histogram sortTime, Histogram outputTime) {
+            this.jumps = jumps;
+            this.disqualifications = disqualifications;
+            this.allocatedBytes = allocatedBytes;
+            this.roundTime = roundTime;
+            this.sortTime = sortTime;
+            this.outputTime = outputTime;
+        }
+
+        /**
+         * @return How many jumps have been simulated
+         */
+        public long getJumps() {
+            return jumps;
+        }
+
+        /**
+         * @return How many jumpers did not manage to land
+         */
+        public long getDisqualifications() {
+            return disqualifications;
+        }
+
+        /**
+         * @return Share of jumps where the jumper did not manage to land, 0 if no jumps have been simulated
+         */
+        public double getDisqualificationRate() {
+            return (jumps == 0) ? 0 : (double) disqualifications / jumps;
+        }
+
+        /**
+         * @return How many bytes have been allocated while simulating jumps, -1 if not supported
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * @return Average amount of bytes allocated per simulated jump, -1 if not supported
+         */
+        public double getAllocatedBytesPerJump() {
+            if (allocatedBytes < 0)
+                return -1;
+
+            return (jumps == 0) ? 0 : (double) allocatedBytes / jumps;
+        }
+
+        /**
+         * @return Time needed to simulate each round in nanoseconds
+         */
+        public Histogram getRoundTime() {
+            return roundTime;
+        }
+
+        /**
+         * @return Time needed to sort the results in nanoseconds
+         */
+        public Histogram getSortTime() {
+            return sortTime;
+        }
+
+        /**
+         * @return Time needed to print the results of a jumper in nanoseconds
+         */
+        public Histogram getOutputTime() {
+            return outputTime;
+        }
+
+        /**
+         * @return Values formatted as a multi-line report
+         */
+        @Override
+        public String toString() {
+            return String.format("Metrics: %d jumps, %.2f%% disqualified, %.1f bytes allocated per jump%n", jumps, getDisqualificationRate() * 100, getAllocatedBytesPerJump()) +
+                    format("Rounds", roundTime) + format("Sorting", sortTime) + format("Output", outputTime);
+        }
+
+        /**
+         * @param name      Name of the timing
+         * @param histogram Timing in nanoseconds
+         * @return Formatted line of the timing
+         */
+        private static String format(String name, Histogram histogram) {
+            return String.format("  %s: %d times, %.3fms total, %.3fms mean, %.3fms p50, %.3fms p99, %.3fms max%n", name, histogram.getCount(),
+                    histogram.getSum() / 1e6, histogram.getMean() / 1e6, histogram.getPercentile(50) / 1e6, histogram.getPercentile(99) / 1e6, histogram.getMax() / 1e6);
+        }
+    }
+}
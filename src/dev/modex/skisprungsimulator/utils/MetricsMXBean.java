@@ -0,0 +1,56 @@
+package dev.modex.skisprungsimulator.utils;
+
+/**
+ * The {@link MetricsMXBean} interface exposes the {@link Metrics}
+ * of a simulation through JMX, e.g. to watch them in JConsole.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ * @see Metrics#registerMBean()
+ */
+public interface MetricsMXBean {
+
+    /**
+     * @return How many jumps have been simulated
+     */
+    long getJumps();
+
+    /**
+     * @return How many jumpers did not manage to land
+     */
+    long getDisqualifications();
+
+    /**
+     * @return Share of jumps where the jumper did not manage to land
+     */
+    double getDisqualificationRate();
+
+    /**
+     * @return Average amount of bytes allocated per simulated jump, -1 if not supported
+     */
+    double getAllocatedBytesPerJump();
+
+    /**
+     * @return How many rounds have been simulated
+     */
+    long getRounds();
+
+    /**
+     * @return Average time needed to simulate a round in milliseconds
+     */
+    double getMeanRoundMillis();
+
+    /**
+     * @return 99th percentile of the time needed to simulate a round in milliseconds
+     */
+    double getP99RoundMillis();
+
+    /**
+     * @return Total time spent sorting results in milliseconds
+     */
+    double getSortMillis();
+
+    /**
+     * @return Total time spent printing results in milliseconds
+     */
+    double getOutputMillis();
+}
@@ -0,0 +1,26 @@
+package dev.modex.skisprungsimulator.utils;
+
+/**
+ * The {@link NullSink} class discards all output,
+ * e.g. to measure the simulation without the cost of printing.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class NullSink implements ResultSink {
+
+    /**
+     * Discards the text
+     *
+     * @param text Formatted text that should be written
+     */
+    @Override
+    public void write(CharSequence text) {
+    }
+
+    /**
+     * Nothing to flush
+     */
+    @Override
+    public void flush() {
+    }
+}
@@ -0,0 +1,41 @@
+package dev.modex.skisprungsimulator.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * The {@link ResultSink} interface is used by the {@link CompetitionManager}
+ * to write the formatted output of a competition. The output is formatted
+ * into a large buffer first and handed to the sink in batches.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ * @see WriterSink
+ * @see ChannelSink
+ * @see NullSink
+ */
+public interface ResultSink extends Closeable {
+
+    /**
+     * @param text Formatted text that should be written
+     * @throws IOException If the text could not be written
+     */
+    void write(CharSequence text) throws IOException;
+
+    /**
+     * Writes all text that may still be buffered by the sink.
+     *
+     * @throws IOException If the text could not be written
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes the sink and releases its resources. Sinks writing
+     * to the console should stay usable after being closed.
+     *
+     * @throws IOException If the text could not be written
+     */
+    @Override
+    default void close() throws IOException {
+        flush();
+    }
+}
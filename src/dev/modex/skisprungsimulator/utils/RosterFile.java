@@ -0,0 +1,376 @@
+package dev.modex.skisprungsimulator.utils;
+
+import dev.modex.skisprungsimulator.objects.Roster;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * The {@link RosterFile} class imports and exports a {@link Roster}.
+ * Rosters can be read from CSV files or from a fixed-width binary format,
+ * which is memory-mapped when loaded: the attributes of all records are
+ * parsed in parallel straight into the arrays of the roster and the names
+ * stay in the mapped file until they are requested, so no object is
+ * created per competitor.
+ * <p>
+ * Binary layout (big endian): magic, version, amount of records, width of the
+ * name field, followed by the records. Every record consists of the name as
+ * zero-padded UTF-8, the age as int and the speed, jumping power, timing
+ * and landing value as doubles.
+ * <p>
+ * CSV layout: {@code name,age,speed,power,timing,landing}, one competitor
+ * per line. A first line starting with {@code name} is skipped.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class RosterFile {
+
+    /**
+     * Magic number at the start of every binary roster ("SKRO")
+     */
+    private static final int MAGIC = 0x534B524F;
+
+    /**
+     * Version of the binary format
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Size of the header in bytes
+     */
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    /**
+     * Default width of the name field in bytes
+     */
+    public static final int NAME_BYTES = 32;
+
+    /**
+     * Maximum width of the name field in bytes, so a record always fits
+     * into the write buffer and into a single mapped region
+     */
+    public static final int MAX_NAME_BYTES = 1 << 10;
+
+    /**
+     * Size of the attributes of a record in bytes
+     */
+    private static final int ATTRIBUTE_BYTES = Integer.BYTES + 4 * Double.BYTES;
+
+    /**
+     * Maximum size of a single mapped region in bytes
+     */
+    private static final long SEGMENT_BYTES = 1L << 30;
+
+    /**
+     * Size of the buffer used for writing in bytes
+     */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Loads a roster from a CSV file if the name of the file ends
+     * with {@code .csv}, otherwise from a binary file.
+     *
+     * @param path File the roster should be read from
+     * @return Loaded roster
+     * @throws IOException              If the file could not be read
+     * @throws IllegalArgumentException If the file is not a valid roster
+     */
+    public static Roster read(Path path) throws IOException {
+        if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv"))
+            return readCsv(path);
+
+        return readBinary(path);
+    }
+
+    /**
+     * Loads a roster from a binary file by memory-mapping it.
+     * Every record is validated like a line of a CSV file.
+     *
+     * @param path File the roster should be read from
+     * @return Loaded roster, the names are read from the file when they are requested
+     * @throws IOException              If the file could not be read or its name field is wider than {@value MAX_NAME_BYTES} bytes
+     * @throws IllegalArgumentException If the file is not a valid roster or a record is not a valid competitor
+     */
+    public static Roster readBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION)
+                throw new IllegalArgumentException("Not a roster file: " + path);
+
+            int size = header.getInt();
+            int nameBytes = header.getInt();
+            if (size < 0 || nameBytes < 0)
+                throw new IllegalArgumentException("Not a roster file: " + path);
+            if (nameBytes > MAX_NAME_BYTES)
+                throw new IOException("Invalid roster file: " + path);
+            int recordBytes = nameBytes + ATTRIBUTE_BYTES;
+            if (channel.size() < HEADER_SIZE + (long) size * recordBytes)
+                throw new IllegalArgumentException("Roster file is truncated: " + path);
+
+            // The mapping stays valid after the channel has been closed
+            int recordsPerSegment = (int) (SEGMENT_BYTES / recordBytes);
+            MappedByteBuffer[] segments = new MappedByteBuffer[(size + recordsPerSegment - 1) / recordsPerSegment];
+            for (int j = 0; j < segments.length; j++) {
+                long records = Math.min(recordsPerSegment, size - (long) j * recordsPerSegment);
+                segments[j] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + (long) j * recordsPerSegment * recordBytes, records * recordBytes);
+            }
+
+            int[] age = new int[size];
+            double[] speed = new double[size], power = new double[size], timing = new double[size], landing = new double[size];
+            int[] nameId = new int[size];
+
+            // Reads every record and finds the first one that is not a valid competitor
+            int invalid = IntStream.range(0, size).parallel().filter(j -> {
+                ByteBuffer segment = segments[j / recordsPerSegment];
+                int offset = (j % recordsPerSegment) * recordBytes + nameBytes;
+                age[j] = segment.getInt(offset);
+                speed[j] = segment.getDouble(offset + Integer.BYTES);
+                power[j] = segment.getDouble(offset + Integer.BYTES + Double.BYTES);
+                timing[j] = segment.getDouble(offset + Integer.BYTES + 2 * Double.BYTES);
+                landing[j] = segment.getDouble(offset + Integer.BYTES + 3 * Double.BYTES);
+                nameId[j] = ~j;
+
+                return !(speed[j] >= 0d && speed[j] <= 10d && power[j] >= 0d && power[j] <= 10d && timing[j] >= 0d && timing[j] <= 10d
+                        && landing[j] >= 0d && landing[j] <= 10d && age[j] >= 1) || isBlank(segment, offset - nameBytes, nameBytes);
+            }).min().orElse(-1);
+
+            if (invalid != -1)
+                throw new IllegalArgumentException("Invalid competitor in record " + (invalid + 1) + " of " + path);
+
+            return new Roster(size, age, speed, power, timing, landing, nameId, new MappedNames(segments, size, recordsPerSegment, nameBytes));
+        }
+    }
+
+    /**
+     * Checks whether a zero-padded UTF-8 name in a mapped file is blank.
+     *
+     * @param segment   Mapped region containing the name
+     * @param offset    Position of the name field in the region
+     * @param nameBytes Width of the name field in bytes
+     * @return Whether the name is empty or only consists of whitespace
+     */
+    private static boolean isBlank(ByteBuffer segment, int offset, int nameBytes) {
+        for (int k = 0; k < nameBytes; k++) {
+            byte b = segment.get(offset + k);
+            if (b == 0)
+                break;
+            // Only names containing other characters than ASCII have to be decoded
+            if (b < 0) {
+                byte[] bytes = new byte[nameBytes];
+                segment.get(offset, bytes);
+
+                int length = 0;
+                while (length < nameBytes && bytes[length] != 0)
+                    length++;
+
+                return new String(bytes, 0, length, StandardCharsets.UTF_8).isBlank();
+            }
+            if (!Character.isWhitespace(b))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Loads a roster from a CSV file.
+     *
+     * @param path File the roster should be read from
+     * @return Loaded roster
+     * @throws IOException              If the file could not be read
+     * @throws IllegalArgumentException If a line is not a valid competitor
+     */
+    public static Roster readCsv(Path path) throws IOException {
+        Roster roster = new Roster();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isBlank() || (number == 1 && line.startsWith("name")))
+                    continue;
+
+                String[] values = line.split(",");
+                if (values.length != 6)
+                    throw new IllegalArgumentException("Invalid competitor in line " + number + ": " + line);
+
+                try {
+                    String name = values[0].trim();
+                    int age = Integer.parseInt(values[1].trim());
+                    double speed = Double.parseDouble(values[2].trim());
+                    double power = Double.parseDouble(values[3].trim());
+                    double timing = Double.parseDouble(values[4].trim());
+                    double landing = Double.parseDouble(values[5].trim());
+
+                    if (speed > 10d || speed < 0d || power > 10d || power < 0d || timing > 10d || timing < 0d || landing > 10d || landing < 0d || name.isBlank() || age < 1)
+                        throw new IllegalArgumentException("Invalid competitor in line " + number + ": " + line);
+
+                    roster.add(name, age, speed, power, timing, landing);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid competitor in line " + number + ": " + line, e);
+                }
+            }
+        }
+
+        return roster;
+    }
+
+    /**
+     * Writes a roster into a binary file with the default width of the name field.
+     *
+     * @param roster Roster that should be saved
+     * @param path   File the roster should be written to
+     * @throws IOException If the file could not be written
+     */
+    public static void write(Roster roster, Path path) throws IOException {
+        write(roster, path, NAME_BYTES);
+    }
+
+    /**
+     * Writes a roster into a binary file. Names that are longer than
+     * the name field will be cut off.
+     *
+     * @param roster    Roster that should be saved
+     * @param path      File the roster should be written to
+     * @param nameBytes Width of the name field in bytes, at most {@value MAX_NAME_BYTES}
+     * @throws IOException              If the file could not be written
+     * @throws IllegalArgumentException If the width of the name field is below 0 or above {@value MAX_NAME_BYTES}
+     */
+    public static void write(Roster roster, Path path, int nameBytes) throws IOException {
+        if (nameBytes < 0 || nameBytes > MAX_NAME_BYTES)
+            throw new IllegalArgumentException();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(roster.size()).putInt(nameBytes);
+
+            for (int j = 0; j < roster.size(); j++) {
+                if (buffer.remaining() < nameBytes + ATTRIBUTE_BYTES)
+                    drain(channel, buffer);
+
+                byte[] name = truncate(roster.getName(j), nameBytes);
+                buffer.put(name);
+                for (int k = name.length; k < nameBytes; k++)
+                    buffer.put((byte) 0);
+
+                buffer.putInt(roster.getAge(j)).putDouble(roster.getSpeed(j)).putDouble(roster.getPower(j))
+                        .putDouble(roster.getTiming(j)).putDouble(roster.getLanding(j));
+            }
+
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Encodes a name as UTF-8 and cuts it off without splitting a character.
+     *
+     * @param name      Name that should be encoded
+     * @param nameBytes Maximum amount of bytes
+     * @return Encoded name
+     */
+    private static byte[] truncate(String name, int nameBytes) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= nameBytes)
+            return bytes;
+
+        int length = nameBytes;
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80)
+            length--;
+
+        byte[] ret = new byte[length];
+        System.arraycopy(bytes, 0, ret, 0, length);
+        return ret;
+    }
+
+    /**
+     * Writes all bytes of the buffer to the channel
+     *
+     * @param channel Channel the buffer should be written to
+     * @param buffer  Buffer that should be written
+     * @throws IOException If the bytes could not be written
+     */
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Dictionary of names that are decoded from the mapped
+     * file whenever they are requested.
+     */
+    private static class MappedNames extends AbstractList<String> implements RandomAccess {
+
+        /**
+         * Mapped regions of the file
+         */
+        private final ByteBuffer[] segments;
+
+        /**
+         * How many records there are
+         */
+        private final int size;
+
+        /**
+         * How many records are stored in a single region
+         */
+        private final int recordsPerSegment;
+
+        /**
+         * Width of the name field in bytes
+         */
+        private final int nameBytes;
+
+        /**
+         * @param segments          Mapped regions of the file
+         * @param size              How many records there are
+         * @param recordsPerSegment How many records are stored in a single region
+         * @param nameBytes         Width of the name field in bytes
+         */
+        MappedNames(ByteBuffer[] segments, int size, int recordsPerSegment, int nameBytes) {
+            this.segments = segments;
+            this.size = size;
+            this.recordsPerSegment = recordsPerSegment;
+            this.nameBytes = nameBytes;
+        }
+
+        /**
+         * @param index Position of the record
+         * @return Name of the record
+         */
+        @Override
+        public String get(int index) {
+            ByteBuffer segment = segments[index / recordsPerSegment];
+            int offset = (index % recordsPerSegment) * (nameBytes + ATTRIBUTE_BYTES);
+
+            byte[] bytes = new byte[nameBytes];
+            segment.get(offset, bytes);
+
+            int length = 0;
+            while (length < nameBytes && bytes[length] != 0)
+                length++;
+
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @return How many records there are
+         */
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package dev.modex.skisprungsimulator.utils;
+
+import dev.modex.skisprungsimulator.enums.Ramps;
+import dev.modex.skisprungsimulator.objects.Competition;
+import dev.modex.skisprungsimulator.objects.Form;
+import dev.modex.skisprungsimulator.objects.QualificationCut;
+import dev.modex.skisprungsimulator.objects.Ramp;
+import dev.modex.skisprungsimulator.objects.ResultTable;
+import dev.modex.skisprungsimulator.objects.Roster;
+import dev.modex.skisprungsimulator.objects.Weather;
+import dev.modex.skisprungsimulator.objects.WorldCupStandings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@link Season} class runs one {@link Competition} per ramp of a calendar
+ * with the same {@link Roster} and sums up the World Cup points of every jumper.
+ * The events do not depend on each other, so they are simulated concurrently,
+ * each of them on a single thread. Only the jumpers receiving points are
+ * kept from each event, taken from its leaderboard, and the points are
+ * awarded in the order of the calendar, so a season is the same for the
+ * same seed regardless of how many threads are used.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Season {
+
+    /**
+     * Competitors taking part in every event
+     */
+    private final Roster roster;
+
+    /**
+     * Ramps of the events in the order they take place
+     */
+    private List<Ramp> calendar;
+
+    /**
+     * How many rounds each event has
+     */
+    private int rounds = 1;
+
+    /**
+     * Seed every event is derived from
+     */
+    private long seed = ThreadLocalRandom.current().nextLong();
+
+    /**
+     * Maximum error of the difficulty of the landing, 0 if it should be calculated exactly
+     */
+    private double difficultyError;
+
+    /**
+     * How the wind changes during a round, null if every jump gets its own independent wind
+     */
+    private Weather weather;
+
+    /**
+     * How the form of the jumpers changes from round to round, null if their attributes stay the same
+     */
+    private Form form;
+
+    /**
+     * Cut applied after each round of every event, null if everyone advances
+     */
+    private QualificationCut[] cuts = new QualificationCut[0];
+
+    /**
+     * Executor the events are simulated on, null to use the common pool
+     */
+    private ExecutorService executor;
+
+    /**
+     * Jumpers who received points in each event, sorted by their place
+     */
+    private int[][] rankings = new int[0][];
+
+    /**
+     * Initializes a season with one event on every ramp of {@link Ramps}
+     *
+     * @param roster Competitors taking part in every event
+     */
+    public Season(Roster roster) {
+        this.roster = roster;
+        this.calendar = new ArrayList<>();
+        for (Ramps ramp : Ramps.values())
+            calendar.add(ramp.toRamp());
+    }
+
+    /**
+     * @param calendar Ramps of the events in the order they take place
+     * @return Current instance of {@link Season}
+     * @throws IllegalArgumentException If the calendar is empty
+     */
+    public Season setCalendar(List<Ramp> calendar) {
+        if (calendar.isEmpty())
+            throw new IllegalArgumentException();
+
+        this.calendar = new ArrayList<>(calendar);
+        return this;
+    }
+
+    /**
+     * @param rounds How many rounds each event has
+     * @return Current instance of {@link Season}
+     */
+    public Season setRounds(int rounds) {
+        this.rounds = rounds;
+        return this;
+    }
+
+    /**
+     * @param seed Seed every event is derived from
+     * @return Current instance of {@link Season}
+     */
+    public Season setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * @param difficultyError Maximum error of the difficulty of the landing, 0 to calculate it exactly
+     * @return Current instance of {@link Season}
+     * @see Competition#setDifficultyError(double)
+     */
+    public Season setDifficultyError(double difficultyError) {
+        this.difficultyError = difficultyError;
+        return this;
+    }
+
+    /**
+     * @param weather How the wind changes during a round, null if every jump should get its own independent wind
+     * @return Current instance of {@link Season}
+     * @see Competition#setWeather(Weather)
+     */
+    public Season setWeather(Weather weather) {
+        this.weather = weather;
+        return this;
+    }
+
+    /**
+     * @param form How the form of the jumpers changes from round to round,
+     *             null if their attributes should stay the same in every round
+     * @return Current instance of {@link Season}
+     * @see Competition#setForm(Form)
+     */
+    public Season setForm(Form form) {
+        this.form = form;
+        return this;
+    }
+
+    /**
+     * @param round Round of every event after which the cut is made, starting at 0
+     * @param cut   Cut deciding who advances, null to let everyone advance
+     * @return Current instance of {@link Season}
+     * @throws IllegalArgumentException If round is below 0
+     * @see Competition#setCut(int, QualificationCut)
+     */
+    public Season setCut(int round, QualificationCut cut) {
+        if (round < 0)
+            throw new IllegalArgumentException();
+
+        if (round >= cuts.length)
+            cuts = Arrays.copyOf(cuts, round + 1);
+
+        cuts[round] = cut;
+        return this;
+    }
+
+    /**
+     * @param executor Executor the events should be simulated on, null to use the common pool
+     * @return Current instance of {@link Season}
+     */
+    public Season setExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Simulates every event of the calendar concurrently and awards
+     * the points of each event once it and all events before it are finished.
+     *
+     * @return World Cup standings after the last event
+     * @throws IllegalStateException If the season has been interrupted
+     */
+    public WorldCupStandings run() {
+        ExecutorService executor = (this.executor != null) ? this.executor : ForkJoinPool.commonPool();
+        List<Future<int[]>> events = new ArrayList<>(calendar.size());
+        for (int event = 0; event < calendar.size(); event++) {
+            int number = event;
+            events.add(executor.submit(() -> runEvent(number)));
+        }
+
+        WorldCupStandings standings = new WorldCupStandings(roster.size());
+        rankings = new int[calendar.size()][];
+        try {
+            for (int event = 0; event < events.size(); event++) {
+                rankings[event] = events.get(event).get();
+                standings.addEvent(rankings[event]);
+            }
+        } catch (InterruptedException e) {
+            events.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            events.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+
+        return standings;
+    }
+
+    /**
+     * Simulates a single event on the calling thread.
+     *
+     * @param event Number of the event in the calendar
+     * @return Jumpers who received points, sorted by their place
+     */
+    private int[] runEvent(int event) {
+        Competition competition = new Competition(roster);
+        competition.setRamp(calendar.get(event));
+        competition.setRounds(rounds);
+        competition.setSeed(CustomRandom.seedOf(seed, event));
+        competition.setDifficultyError(difficultyError);
+        competition.setWeather(weather);
+        competition.setForm(form);
+        for (int round = 0; round < cuts.length; round++)
+            competition.setCut(round, cuts[round]);
+        competition.setLeaderboardSize(WorldCupStandings.getScoringPlaces());
+
+        new CompetitionManager(competition).run();
+
+        int[] top = competition.getLeaderboard().top();
+        ResultTable results = competition.getResultTable();
+        int size = 0;
+        while (size < top.length && !results.disqualified(top[size]))
+            size++;
+
+        int[] ranking = new int[size];
+        System.arraycopy(top, 0, ranking, 0, size);
+        return ranking;
+    }
+
+    /**
+     * @return Unmodifiable list of the ramps of the events
+     */
+    public List<Ramp> getCalendar() {
+        return Collections.unmodifiableList(calendar);
+    }
+
+    /**
+     * @param event Number of the event in the calendar
+     * @return Copy of the jumpers who received points in the event, sorted by their place
+     */
+    public int[] getRanking(int event) {
+        return rankings[event].clone();
+    }
+
+    /**
+     * @return Competitors taking part in every event
+     */
+    public Roster getRoster() {
+        return roster;
+    }
+}
@@ -0,0 +1,191 @@
+package dev.modex.skisprungsimulator.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.modex.skisprungsimulator.enums.Ramps;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The {@link SimulationServer} class simulates competitions on request through
+ * a local HTTP endpoint, using the server built into the JDK. Every request is
+ * handled on its own virtual thread if the JVM supports them, otherwise on a
+ * cached thread pool, and gets its own {@link CompetitionManager} which
+ * simulates on the handling thread and writes into a {@link StringSink},
+ * so requests never share any state.
+ * <p>
+ * {@code GET /simulate?competitors=<Competitors>&rounds=<Rounds>&seed=<Seed>&top=<Jumpers>&ramp=<Ramp>}
+ * returns the same text the console would show. Only competitors is required,
+ * ramp is the name of a {@link Ramps} entry. Other methods are answered with 405.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class SimulationServer implements Closeable {
+
+    /**
+     * Maximum amount of jumps a single request may simulate
+     */
+    private static final long MAX_JUMPS = 10_000_000;
+
+    /**
+     * Server receiving the requests
+     */
+    private final HttpServer server;
+
+    /**
+     * Executor handling the requests
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Binds the server to the loopback address, it is started with {@link SimulationServer#start()}.
+     *
+     * @param port Port the server should listen on, 0 to choose a free port
+     * @throws IOException If the port could not be bound
+     */
+    public SimulationServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = newExecutor();
+        server.setExecutor(executor);
+        server.createContext("/simulate", this::handle);
+    }
+
+    /**
+     * @return Executor starting a virtual thread per task, or a cached
+     * thread pool if the JVM does not support virtual threads
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * @return Current instance of {@link SimulationServer}
+     */
+    public SimulationServer start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * @return Port the server is listening on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, requests that are still running are not waited for.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    /**
+     * Simulates the requested competition and sends the results.
+     *
+     * @param exchange Request and response
+     * @throws IOException If the response could not be sent
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // The parameters are only read from the query, so a request body would be ignored
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                send(exchange, 405, "Only GET is supported.\n");
+                return;
+            }
+
+            String response;
+            try {
+                response = simulate(parseQuery(exchange.getRequestURI().getRawQuery()));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, "Invalid request" + ((e.getMessage() != null) ? ": " + e.getMessage() : ".") + "\n");
+                return;
+            }
+
+            send(exchange, 200, response);
+        }
+    }
+
+    /**
+     * Runs a competition on the calling thread.
+     *
+     * @param parameters Parameters of the request
+     * @return Formatted results of the competition
+     * @throws IllegalArgumentException If a parameter is missing or invalid
+     */
+    private static String simulate(Map<String, String> parameters) {
+        if (!parameters.containsKey("competitors"))
+            throw new IllegalArgumentException("competitors is required");
+
+        int competitors = Integer.parseInt(parameters.get("competitors"));
+        int rounds = Integer.parseInt(parameters.getOrDefault("rounds", "1"));
+        if (competitors < 1 || rounds < 1 || (long) competitors * rounds > MAX_JUMPS)
+            throw new IllegalArgumentException("competitors and rounds have to be at least 1 and at most " + MAX_JUMPS + " jumps are allowed");
+
+        StringSink sink = new StringSink();
+        CompetitionManager manager = new CompetitionManager().setSink(sink).setParallelism(1);
+        if (parameters.containsKey("seed"))
+            manager.setSeed(Long.parseLong(parameters.get("seed")));
+        if (parameters.containsKey("top"))
+            manager.setTop(Integer.parseInt(parameters.get("top")));
+
+        if (parameters.containsKey("ramp"))
+            manager.setRamp(Ramps.valueOf(parameters.get("ramp")).toRamp());
+        else
+            manager.randomRamp();
+
+        manager.addRandomCompetitors(competitors).setRounds(rounds).start();
+        return sink.toString();
+    }
+
+    /**
+     * @param query Raw query of the request, may be null
+     * @return Decoded parameters of the query
+     */
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null)
+            return parameters;
+
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0)
+                parameters.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+
+        return parameters;
+    }
+
+    /**
+     * @param exchange Request and response
+     * @param status   Status code of the response
+     * @param body     Body of the response
+     * @throws IOException If the response could not be sent
+     */
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package dev.modex.skisprungsimulator.utils;
+
+import dev.modex.skisprungsimulator.objects.Competition;
+import dev.modex.skisprungsimulator.objects.Form;
+import dev.modex.skisprungsimulator.objects.QualificationCut;
+import dev.modex.skisprungsimulator.objects.Ramp;
+import dev.modex.skisprungsimulator.objects.ResultTable;
+import dev.modex.skisprungsimulator.objects.Roster;
+import dev.modex.skisprungsimulator.objects.Weather;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@link Snapshot} class saves the state of a running {@link Competition}
+ * between two rounds into a compact binary file and loads it again, so a
+ * competition can be resumed after a crash. The file is laid out column by
+ * column, every column is loaded with a single bulk copy out of a memory-mapped
+ * region instead of creating objects one by one.
+ * <p>
+ * Layout (big endian): magic, version, seed, rounds, completed rounds, competitors,
+ * ramp (name, location, kpoint, hillsize), settings, name dictionary, one column per attribute
+ * of the {@link Roster} and one column of distances and one of points per completed round.
+ * The settings are the difficulty error, the {@link Weather} and the {@link Form} (NaN if
+ * none has been set) and the cut after every round (-1 if there is none, otherwise how
+ * many competitors advance and the distance they need), so a resumed competition
+ * continues with the same settings. Only snapshots of the current version can be loaded.
+ * Strings are stored as their length followed by their UTF-8 bytes,
+ * missing results are stored as NaN, e.g. for competitors who have been
+ * eliminated by a {@link dev.modex.skisprungsimulator.objects.QualificationCut}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class Snapshot {
+
+    /**
+     * Magic number at the start of every snapshot ("SKSP")
+     */
+    private static final int MAGIC = 0x534B5350;
+
+    /**
+     * Version of the file format
+     */
+    private static final int VERSION = 3;
+
+    /**
+     * Size of the buffer used for writing in bytes
+     */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Competition that has been loaded
+     */
+    private final Competition competition;
+
+    /**
+     * How many rounds had been completed when the snapshot was written
+     */
+    private final int completedRounds;
+
+    /**
+     * @param competition     Competition that has been loaded
+     * @param completedRounds How many rounds had been completed when the snapshot was written
+     */
+    private Snapshot(Competition competition, int completedRounds) {
+        this.competition = competition;
+        this.completedRounds = completedRounds;
+    }
+
+    /**
+     * @return Competition that has been loaded
+     */
+    public Competition getCompetition() {
+        return competition;
+    }
+
+    /**
+     * @return How many rounds had been completed when the snapshot was written
+     */
+    public int getCompletedRounds() {
+        return completedRounds;
+    }
+
+    /**
+     * Writes the state of a competition into a file. The snapshot is written
+     * into a temporary file first, which then replaces the given file,
+     * so an existing snapshot is never left half written.
+     *
+     * @param competition     Competition that should be saved
+     * @param completedRounds How many rounds have been completed
+     * @param path            File the snapshot should be written to
+     * @throws IOException If the file could not be written
+     */
+    public static void write(Competition competition, int completedRounds, Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Roster roster = competition.getRoster();
+        int size = roster.size();
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(competition.getSeed()).putInt(competition.getRounds()).putInt(completedRounds).putInt(size);
+            putString(channel, buffer, competition.getRamp().getName());
+            putString(channel, buffer, competition.getRamp().getLocation());
+            ensureRemaining(channel, buffer, 2 * Double.BYTES).putDouble(competition.getRamp().getKpoint()).putDouble(competition.getRamp().getHillsize());
+
+            Weather weather = competition.getWeather();
+            Form form = competition.getForm();
+            ensureRemaining(channel, buffer, 5 * Double.BYTES).putDouble(competition.getDifficultyError())
+                    .putDouble((weather != null) ? weather.getPersistence() : Double.NaN).putDouble((weather != null) ? weather.getGustiness() : Double.NaN)
+                    .putDouble((form != null) ? form.getVolatility() : Double.NaN).putDouble((form != null) ? form.getFatigue() : Double.NaN);
+            for (int round = 0; round < competition.getRounds(); round++) {
+                QualificationCut cut = competition.getCut(round);
+                ensureRemaining(channel, buffer, Integer.BYTES + Double.BYTES).putInt((cut != null) ? cut.getTop() : -1)
+                        .putDouble((cut != null) ? cut.getMinDistance() : Double.NaN);
+            }
+
+            ensureRemaining(channel, buffer, Integer.BYTES).putInt(roster.getNames().size());
+            for (String name : roster.getNames())
+                putString(channel, buffer, name);
+
+            for (int j = 0; j < size; j++)
+                ensureRemaining(channel, buffer, Integer.BYTES).putInt(roster.getAge(j));
+            for (int j = 0; j < size; j++)
+                ensureRemaining(channel, buffer, Double.BYTES).putDouble(roster.getSpeed(j));
+            for (int j = 0; j < size; j++)
+                ensureRemaining(channel, buffer, Double.BYTES).putDouble(roster.getPower(j));
+            for (int j = 0; j < size; j++)
+                ensureRemaining(channel, buffer, Double.BYTES).putDouble(roster.getTiming(j));
+            for (int j = 0; j < size; j++)
+                ensureRemaining(channel, buffer, Double.BYTES).putDouble(roster.getLanding(j));
+            for (int j = 0; j < size; j++)
+                ensureRemaining(channel, buffer, Integer.BYTES).putInt(roster.getNameId(j));
+
+            ResultTable results = competition.getResultTable();
+            for (int round = 0; round < completedRounds; round++) {
+                for (int j = 0; j < size; j++) {
+                    double distance = (round < results.getJumps(j)) ? results.getResult(j, round) : Double.NaN;
+                    ensureRemaining(channel, buffer, Double.BYTES).putDouble(distance);
+                }
+                for (int j = 0; j < size; j++) {
+                    double points = (round < results.getJumps(j)) ? results.getPoints(j, round) : Double.NaN;
+                    ensureRemaining(channel, buffer, Double.BYTES).putDouble(points);
+                }
+            }
+
+            drain(channel, buffer);
+            channel.force(false);
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a snapshot. The header is read through a small mapped window,
+     * the columns are copied in bulk out of memory-mapped regions of the file,
+     * the results of the completed rounds are added to the new competition afterwards.
+     *
+     * @param path File the snapshot should be read from
+     * @return Loaded snapshot
+     * @throws IOException              If the file could not be read
+     * @throws IllegalArgumentException If the file is not a valid snapshot
+     */
+    public static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = new Header(channel, path);
+
+            int version = (channel.size() >= 2 * Integer.BYTES && header.getInt() == MAGIC) ? header.getInt() : -1;
+            if (version != VERSION)
+                throw new IllegalArgumentException("Not a competition snapshot: " + path);
+
+            long seed = header.getLong();
+            int rounds = header.getInt();
+            int completedRounds = header.getInt();
+            int size = header.getInt();
+            if (rounds < 0 || completedRounds < 0 || completedRounds > rounds || size < 0)
+                throw new IllegalArgumentException("Not a competition snapshot: " + path);
+            Ramp ramp = new Ramp(header.getString(), header.getString(), header.getDouble(), header.getDouble());
+
+            double difficultyError = header.getDouble();
+            double persistence = header.getDouble(), gustiness = header.getDouble();
+            double volatility = header.getDouble(), fatigue = header.getDouble();
+            Weather weather = Double.isNaN(persistence) ? null : new Weather(persistence, gustiness);
+            Form form = Double.isNaN(volatility) ? null : new Form(volatility, fatigue);
+
+            QualificationCut[] cuts = new QualificationCut[rounds];
+            for (int round = 0; round < rounds; round++) {
+                int top = header.getInt();
+                double minDistance = header.getDouble();
+                if (top > 0)
+                    cuts[round] = QualificationCut.top(top);
+                else if (top == 0)
+                    cuts[round] = QualificationCut.distance(minDistance);
+            }
+
+            List<String> names = new ArrayList<>();
+            int nameCount = header.getInt();
+            for (int j = 0; j < nameCount; j++)
+                names.add(header.getString());
+            long position = header.position();
+
+            long columns = (long) size * (2 * Integer.BYTES + 4 * Double.BYTES) + (long) completedRounds * size * 2 * Double.BYTES;
+            if (channel.size() < position + columns)
+                throw new IllegalArgumentException("Snapshot is truncated: " + path);
+
+            int[] age = new int[size];
+            double[] speed = new double[size], power = new double[size], timing = new double[size], landing = new double[size];
+            int[] nameId = new int[size];
+
+            channel.map(FileChannel.MapMode.READ_ONLY, position, (long) size * Integer.BYTES).asIntBuffer().get(age);
+            position += (long) size * Integer.BYTES;
+            for (double[] column : new double[][]{speed, power, timing, landing}) {
+                channel.map(FileChannel.MapMode.READ_ONLY, position, (long) size * Double.BYTES).asDoubleBuffer().get(column);
+                position += (long) size * Double.BYTES;
+            }
+            channel.map(FileChannel.MapMode.READ_ONLY, position, (long) size * Integer.BYTES).asIntBuffer().get(nameId);
+            position += (long) size * Integer.BYTES;
+
+            Competition competition = new Competition(new Roster(size, age, speed, power, timing, landing, nameId, names));
+            competition.setRamp(ramp);
+            competition.setRounds(rounds);
+            competition.setSeed(seed);
+            competition.setDifficultyError(difficultyError);
+            competition.setWeather(weather);
+            competition.setForm(form);
+            for (int round = 0; round < rounds; round++)
+                competition.setCut(round, cuts[round]);
+
+            double[] distances = new double[size];
+            double[] points = new double[size];
+            for (int round = 0; round < completedRounds; round++) {
+                channel.map(FileChannel.MapMode.READ_ONLY, position, (long) size * Double.BYTES).asDoubleBuffer().get(distances);
+                position += (long) size * Double.BYTES;
+                channel.map(FileChannel.MapMode.READ_ONLY, position, (long) size * Double.BYTES).asDoubleBuffer().get(points);
+                position += (long) size * Double.BYTES;
+
+                for (int j = 0; j < size; j++)
+                    if (!Double.isNaN(distances[j]))
+                        competition.addResult(j, distances[j], points[j]);
+            }
+
+            // Competitors eliminated by a cut did not jump in the last completed round
+            int[] active = new int[size];
+            int activeCount = 0;
+            for (int j = 0; j < size; j++)
+                if (!Double.isNaN(distances[j]))
+                    active[activeCount++] = j;
+            if (completedRounds > 0 && activeCount < size)
+                competition.setActive(Arrays.copyOf(active, activeCount));
+
+            return new Snapshot(competition, completedRounds);
+        }
+    }
+
+    /**
+     * @param channel Channel the buffer is written to when it is full
+     * @param buffer  Buffer the string should be written into
+     * @param text    String that should be written
+     * @throws IOException If the buffer could not be written
+     */
+    private static void putString(FileChannel channel, ByteBuffer buffer, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(channel, buffer, Integer.BYTES).putInt(bytes.length);
+        for (byte b : bytes)
+            ensureRemaining(channel, buffer, 1).put(b);
+    }
+
+
+    /**
+     * Writes the buffer to the channel if it has less than the given amount of bytes left.
+     *
+     * @param channel Channel the buffer should be written to
+     * @param buffer  Buffer that should be checked
+     * @param bytes   How many bytes are needed
+     * @return The given buffer
+     * @throws IOException If the buffer could not be written
+     */
+    private static ByteBuffer ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes)
+            drain(channel, buffer);
+
+        return buffer;
+    }
+
+    /**
+     * Writes all bytes of the buffer to the channel
+     *
+     * @param channel Channel the buffer should be written to
+     * @param buffer  Buffer that should be written
+     * @throws IOException If the bytes could not be written
+     */
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * The {@link Header} class reads the header of a snapshot through a small
+     * mapped window, which is moved forward whenever a value does not fit into it,
+     * so only the header is mapped instead of the whole file.
+     */
+    private static class Header {
+
+        /**
+         * Size of the mapped window in bytes
+         */
+        private static final int WINDOW_SIZE = 1 << 16;
+
+        /**
+         * Channel the header is read from
+         */
+        private final FileChannel channel;
+
+        /**
+         * File the header is read from
+         */
+        private final Path path;
+
+        /**
+         * Position of the window in the file
+         */
+        private long base;
+
+        /**
+         * Mapped window of the file
+         */
+        private ByteBuffer window = ByteBuffer.allocate(0);
+
+        /**
+         * @param channel Channel the header should be read from
+         * @param path    File the header should be read from
+         */
+        Header(FileChannel channel, Path path) {
+            this.channel = channel;
+            this.path = path;
+        }
+
+        /**
+         * Moves the window to the current position if it has less than the given amount of bytes left.
+         *
+         * @param bytes How many bytes are needed
+         * @return Window holding at least the given amount of bytes
+         * @throws IOException              If the file could not be mapped
+         * @throws IllegalArgumentException If the file ends before the given amount of bytes
+         */
+        private ByteBuffer ensureRemaining(int bytes) throws IOException {
+            if (window.remaining() < bytes) {
+                base += window.position();
+                long length = Math.min(Math.max(bytes, WINDOW_SIZE), channel.size() - base);
+                if (length < bytes)
+                    throw new IllegalArgumentException("Snapshot is truncated: " + path);
+
+                window = channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+            }
+
+            return window;
+        }
+
+        /**
+         * @return Int that has been read
+         * @throws IOException If the file could not be read
+         */
+        int getInt() throws IOException {
+            return ensureRemaining(Integer.BYTES).getInt();
+        }
+
+        /**
+         * @return Long that has been read
+         * @throws IOException If the file could not be read
+         */
+        long getLong() throws IOException {
+            return ensureRemaining(Long.BYTES).getLong();
+        }
+
+        /**
+         * @return Double that has been read
+         * @throws IOException If the file could not be read
+         */
+        double getDouble() throws IOException {
+            return ensureRemaining(Double.BYTES).getDouble();
+        }
+
+        /**
+         * @return String that has been read
+         * @throws IOException If the file could not be read
+         */
+        String getString() throws IOException {
+            int length = getInt();
+            if (length < 0)
+                throw new IllegalArgumentException("Not a competition snapshot: " + path);
+
+            byte[] bytes = new byte[length];
+            ensureRemaining(length).get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @return Position in the file after the last value that has been read
+         */
+        long position() {
+            return base + window.position();
+        }
+    }
+}
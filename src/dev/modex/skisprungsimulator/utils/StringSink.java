@@ -0,0 +1,40 @@
+package dev.modex.skisprungsimulator.utils;
+
+/**
+ * The {@link StringSink} class collects all output in memory,
+ * e.g. to return it as the response of a request.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class StringSink implements ResultSink {
+
+    /**
+     * Buffer holding the output
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Appends the text to the buffer
+     *
+     * @param text Formatted text that should be written
+     */
+    @Override
+    public void write(CharSequence text) {
+        this.text.append(text);
+    }
+
+    /**
+     * Nothing to flush
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * @return All output that has been written
+     */
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
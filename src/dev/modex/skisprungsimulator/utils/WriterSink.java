@@ -0,0 +1,84 @@
+package dev.modex.skisprungsimulator.utils;
+
+import java.io.*;
+import java.nio.charset.Charset;
+
+/**
+ * The {@link WriterSink} class writes the output to a buffered {@link Writer},
+ * by default to the console.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+public class WriterSink implements ResultSink {
+
+    /**
+     * Size of the buffer in chars
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writer the output is written to
+     */
+    private final Writer writer;
+
+    /**
+     * Whether the output is written to the console, which is never closed
+     */
+    private final boolean console;
+
+    /**
+     * Default constructor writes to {@link System#out}
+     */
+    public WriterSink() {
+        this(new OutputStreamWriter(System.out, Charset.defaultCharset()), true);
+    }
+
+    /**
+     * @param writer Writer the output should be written to, closed together with the sink
+     */
+    public WriterSink(Writer writer) {
+        this(writer, false);
+    }
+
+    /**
+     * @param writer  Writer the output should be written to
+     * @param console Whether the output is written to the console, which is only flushed when the sink is closed
+     */
+    private WriterSink(Writer writer, boolean console) {
+        this.writer = new BufferedWriter(writer, BUFFER_SIZE);
+        this.console = console;
+    }
+
+    /**
+     * Appends the text to the buffer of the writer
+     *
+     * @param text Formatted text that should be written
+     * @throws IOException If the text could not be written
+     */
+    @Override
+    public void write(CharSequence text) throws IOException {
+        writer.append(text);
+    }
+
+    /**
+     * Flushes the buffer of the writer
+     * @throws IOException If the text could not be written
+     */
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Flushes the buffer of the writer and closes it
+     * unless the output is written to the console
+     * @throws IOException If the text could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (console)
+            flush();
+        else
+            writer.close();
+    }
+}
@@ -0,0 +1,77 @@
+package dev.modex.skisprungsimulator.objects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of {@link QualificationCut}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class QualificationCutTest {
+
+    /**
+     * @param points Points of every competitor, a competitor with 0 points did not land
+     * @return Table with one jump per competitor
+     */
+    private static ResultTable table(double... points) {
+        ResultTable results = new ResultTable(points.length, 1);
+        for (int j = 0; j < points.length; j++)
+            results.add(j, (points[j] == 0) ? 0 : 100 + j, points[j]);
+
+        return results;
+    }
+
+    /**
+     * @param size How many competitors there are
+     * @return Positions of all competitors
+     */
+    private static int[] everyone(int size) {
+        int[] ret = new int[size];
+        Arrays.setAll(ret, j -> j);
+        return ret;
+    }
+
+    @Test
+    void topKeepsTheCompetitorsWithTheMostPointsInOrder() {
+        ResultTable results = table(50, 90, 70, 10, 80);
+        assertArrayEquals(new int[]{1, 2, 4}, QualificationCut.top(3).apply(everyone(5), results));
+    }
+
+    @Test
+    void topLetsEveryoneTiedWithTheLastPlaceAdvance() {
+        ResultTable results = table(60, 90, 60, 10, 60);
+        assertArrayEquals(new int[]{0, 1, 2, 4}, QualificationCut.top(2).apply(everyone(5), results));
+    }
+
+    @Test
+    void topNeverLetsDisqualifiedCompetitorsAdvance() {
+        ResultTable results = table(0, 90, 0, 40);
+        assertArrayEquals(new int[]{1, 3}, QualificationCut.top(3).apply(everyone(4), results));
+    }
+
+    @Test
+    void distanceKeepsEveryoneWhoReachedIt() {
+        ResultTable results = table(50, 90, 70, 10, 80);
+        assertArrayEquals(new int[]{2, 3, 4}, QualificationCut.distance(102).apply(everyone(5), results));
+    }
+
+    @Test
+    void topOnlyLooksAtTheGivenCompetitors() {
+        ResultTable results = table(50, 90, 70, 10, 80);
+        assertArrayEquals(new int[]{0, 4}, QualificationCut.top(2).apply(new int[]{0, 3, 4}, results));
+    }
+
+    @Test
+    void selectMatchesSorting() {
+        double[] values = {5, 1, 9, 3, 9, 7, 2, 8, 6, 4};
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int k = 0; k < values.length; k++)
+            assertEquals(sorted[sorted.length - 1 - k], QualificationCut.select(values.clone(), k));
+    }
+}
@@ -0,0 +1,110 @@
+package dev.modex.skisprungsimulator.objects;
+
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link Scoring} and the compensation of {@link RampProfile}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class ScoringTest {
+
+    /**
+     * Profile of a large hill
+     */
+    private static final RampProfile PROFILE = new RampProfile(125, 140);
+
+    /**
+     * @param judges Bits of each judge, starting with the first judge
+     * @return Random value giving each judge the given bits
+     */
+    private static long marks(int... judges) {
+        long marks = 0;
+        for (int judge = 0; judge < judges.length; judge++)
+            marks |= (long) judges[judge] << (judge * 12);
+        return marks;
+    }
+
+    @Test
+    void highestAndLowestMarkAreDropped() {
+        for (double landing = 0; landing <= 10; landing += 0.5) {
+            double neutral = Scoring.style(landing, Scoring.NEUTRAL_MARKS);
+            assertEquals(neutral, Scoring.style(landing, marks(0xFFF, 0, 0x800, 0x800, 0x800)));
+            assertEquals(neutral, Scoring.style(landing, marks(0x800, 0x800, 0, 0x800, 0xFFF)));
+        }
+    }
+
+    @Test
+    void styleMatchesSortingTheMarks() {
+        CustomRandom random = new CustomRandom(5);
+        for (int j = 0; j < 10_000; j++) {
+            double landing = random.nextDouble(0, 10);
+            long marks = random.nextLong();
+
+            // Every judge giving the same mark scores three times that mark
+            double[] judges = new double[Scoring.JUDGES];
+            for (int judge = 0; judge < Scoring.JUDGES; judge++) {
+                int bits = (int) ((marks >>> (judge * 12)) & 0xFFF);
+                judges[judge] = Scoring.style(landing, marks(bits, bits, bits, bits, bits)) / 3;
+            }
+            Arrays.sort(judges);
+
+            assertEquals(judges[1] + judges[2] + judges[3], Scoring.style(landing, marks), 1e-9);
+        }
+    }
+
+    @Test
+    void headwindAndHigherGateCostPoints() {
+        assertTrue(PROFILE.compensation(2, 0) < 0);
+        assertTrue(PROFILE.compensation(0, 2) < 0);
+        assertTrue(PROFILE.compensation(-2, 0) > 0);
+        assertTrue(PROFILE.compensation(0, -2) > 0);
+        assertEquals(0, PROFILE.compensation(0, 0), 1e-9);
+    }
+
+    @Test
+    void tailwindIsCompensatedWithMorePointsThanHeadwind() {
+        assertEquals(1.21, PROFILE.compensation(-2, 0) / -PROFILE.compensation(2, 0), 1e-9);
+    }
+
+    @Test
+    void compensationIsAddedToThePoints() {
+        Scoring scoring = new Scoring(PROFILE);
+        double points = scoring.points(125, 8, Scoring.NEUTRAL_MARKS, 0);
+        assertEquals(scoring.getKpointPoints() + Scoring.style(8, Scoring.NEUTRAL_MARKS), points);
+        assertEquals(points + 4.5, scoring.points(125, 8, Scoring.NEUTRAL_MARKS, 4.5), 1e-9);
+        assertEquals(points - 4.5, scoring.points(125, 8, Scoring.NEUTRAL_MARKS, -4.5), 1e-9);
+    }
+
+    @Test
+    void disqualifiedAndShortJumpsGetNoPoints() {
+        Scoring scoring = new Scoring(PROFILE);
+        assertEquals(0, scoring.points(0, 8, Scoring.NEUTRAL_MARKS, 20));
+        assertEquals(0, scoring.points(10, 0, Scoring.NEUTRAL_MARKS, -20));
+    }
+
+    @Test
+    void bulkScoringMatchesSingleJumps() {
+        Scoring scoring = new Scoring(PROFILE);
+        CustomRandom random = new CustomRandom(9);
+        int size = 1000;
+        double[] distances = new double[size], landings = new double[size], compensations = new double[size], points = new double[size];
+        long[] marks = new long[size];
+        for (int k = 0; k < size; k++) {
+            distances[k] = (k % 10 == 0) ? 0 : random.nextDouble(60, 150);
+            landings[k] = random.nextDouble(0, 10);
+            compensations[k] = random.nextDouble(-15, 15);
+            marks[k] = random.nextLong();
+        }
+
+        scoring.score(distances, landings, marks, compensations, points, size);
+        for (int k = 0; k < size; k++)
+            assertEquals(scoring.points(distances[k], landings[k], marks[k], compensations[k]), points[k]);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.modex.skisprungsimulator.objects;
+
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of {@link Standings}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class StandingsTest {
+
+    @Test
+    void rankMatchesCountingBetterJumpers() {
+        CustomRandom random = new CustomRandom(13);
+        Standings standings = new Standings(500);
+        double[] best = new double[300];
+        for (int update = 0; update < 3000; update++) {
+            int jumper = random.nextInt(best.length - 1);
+            // Results are rounded to hundredths, so the jumpers are compared the same way
+            best[jumper] = Math.max(best[jumper], Math.round(random.nextDouble(0, 400) * 100) / 100d);
+            assertEquals(expectedRank(best, jumper), standings.update(jumper, best[jumper]));
+        }
+
+        for (int j = 0; j < best.length; j++)
+            if (best[j] > 0)
+                assertEquals(expectedRank(best, j), standings.getRank(j));
+    }
+
+    @Test
+    void jumpersWithoutAResultHaveNoRank() {
+        Standings standings = new Standings(100);
+        standings.update(3, 50);
+
+        assertEquals(1, standings.getRank(3));
+        assertEquals(-1, standings.getRank(2));
+        assertEquals(-1, standings.getRank(10));
+        assertEquals(1, standings.size());
+    }
+
+    @Test
+    void higherResultsShareTheLastBucket() {
+        Standings standings = new Standings(100);
+        standings.update(0, 150);
+        standings.update(1, 120);
+        standings.update(2, 99);
+
+        assertEquals(1, standings.getRank(0));
+        assertEquals(1, standings.getRank(1));
+        assertEquals(3, standings.getRank(2));
+    }
+
+    /**
+     * @param best   Best result of every jumper, 0 if the jumper has no result
+     * @param jumper Position of the jumper
+     * @return One more than the amount of jumpers with a higher result
+     */
+    private static int expectedRank(double[] best, int jumper) {
+        int better = 0;
+        for (double other : best)
+            if (other > best[jumper])
+                better++;
+        return better + 1;
+    }
+}
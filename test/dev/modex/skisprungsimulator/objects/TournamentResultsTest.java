@@ -0,0 +1,40 @@
+package dev.modex.skisprungsimulator.objects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of {@link TournamentResults}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class TournamentResultsTest {
+
+    @Test
+    void percentileIsInterpolatedWithinTheBin() {
+        TournamentResults results = new TournamentResults(List.of(new Jumper()), 100);
+        assertEquals(0.5, results.getBinWidth());
+
+        for (double best : new double[]{10, 10.1, 10.2, 10.3})
+            results.addRun(new double[]{best}, new int[]{1});
+
+        assertEquals(10.125, results.getPercentile(0, 25), 1e-9);
+        assertEquals(10.25, results.getPercentile(0, 50), 1e-9);
+        assertEquals(10.5, results.getPercentile(0, 100), 1e-9);
+    }
+
+    @Test
+    void disqualifiedRunsAreNotPartOfThePercentiles() {
+        TournamentResults results = new TournamentResults(List.of(new Jumper(), new Jumper()), 100);
+        results.addRun(new double[]{0, 50}, new int[]{0, 1});
+        results.addRun(new double[]{0, 60}, new int[]{0, 1});
+
+        assertEquals(0, results.getPercentile(0, 50));
+        assertEquals(1, results.getDisqualificationProbability(0));
+        assertEquals(50.5, results.getPercentile(1, 50), 1e-9);
+        assertEquals(1, results.getWinProbability(1));
+    }
+}
@@ -0,0 +1,49 @@
+package dev.modex.skisprungsimulator.objects;
+
+import dev.modex.skisprungsimulator.utils.CustomRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link WorldCupStandings}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class WorldCupStandingsTest {
+
+    @Test
+    void jumpersWithTheSamePointsShareARank() {
+        WorldCupStandings standings = new WorldCupStandings(4);
+        standings.addEvent(new int[]{2, 0});
+        standings.addEvent(new int[]{0, 2});
+
+        assertArrayEquals(new int[]{0, 2, 1, 3}, standings.top(4));
+        assertEquals(1, standings.getRank(0));
+        assertEquals(1, standings.getRank(2));
+        assertEquals(3, standings.getRank(1));
+        assertEquals(3, standings.getRank(3));
+    }
+
+    @Test
+    void rankMatchesCountingJumpersWithMorePoints() {
+        CustomRandom random = new CustomRandom(3);
+        WorldCupStandings standings = new WorldCupStandings(100);
+        for (int j = 0; j < 1000; j++)
+            standings.addPoints(random.nextInt(99), WorldCupStandings.getPoints(random.nextInt(1, 40)));
+
+        int[] top = standings.top(100);
+        for (int j = 0; j < 100; j++) {
+            int better = 0;
+            for (int other = 0; other < 100; other++)
+                if (standings.getPointsOf(other) > standings.getPointsOf(j))
+                    better++;
+
+            assertEquals(better + 1, standings.getRank(j));
+            if (j > 0)
+                assertTrue(standings.getPointsOf(top[j - 1]) >= standings.getPointsOf(top[j]));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package dev.modex.skisprungsimulator.utils;
+
+import dev.modex.skisprungsimulator.objects.Competition;
+import dev.modex.skisprungsimulator.objects.Form;
+import dev.modex.skisprungsimulator.objects.QualificationCut;
+import dev.modex.skisprungsimulator.objects.ResultTable;
+import dev.modex.skisprungsimulator.objects.TournamentResults;
+import dev.modex.skisprungsimulator.objects.Weather;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of {@link CompetitionManager}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class CompetitionManagerTest {
+
+    /**
+     * @return Manager with 200 random competitors and 3 rounds that does not print anything
+     */
+    private static CompetitionManager manager() {
+        return new CompetitionManager().setSink(new NullSink()).setSeed(42).randomRamp().addRandomCompetitors(200).setRounds(3);
+    }
+
+    @Test
+    void cutLetsTheExpectedAmountOfJumpersAdvance() {
+        Competition competition = manager().setCut(0, QualificationCut.top(30)).run();
+        ResultTable results = competition.getResultTable();
+
+        int advanced = 0;
+        for (int j = 0; j < results.size(); j++)
+            if (results.getJumps(j) == 3)
+                advanced++;
+
+        assertEquals(30, advanced);
+        assertEquals(30, competition.getActive().length);
+    }
+
+    @Test
+    void cutWithoutResultsIsRejected() {
+        CompetitionManager manager = manager().setCut(0, QualificationCut.top(30)).setRetainResults(false);
+        assertThrows(IllegalStateException.class, manager::run);
+        assertThrows(IllegalStateException.class, manager::start);
+    }
+
+    @Test
+    void cutWhenSimulatingSeveralCompetitionsIsRejected() {
+        CompetitionManager manager = manager().setCut(0, QualificationCut.top(30));
+        assertThrows(IllegalStateException.class, () -> manager.simulate(10));
+    }
+
+    @Test
+    void callerSuppliedPoolIsNotShutDown() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            manager().setExecutor(pool).start();
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void roundsDoNotDependOnTheAmountOfThreads() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Enough competitors to split every round into several tasks
+            ResultTable sequential = manager().addRandomCompetitors(5000).setWeather(new Weather(0.9, 1)).setForm(new Form(0.05, 0.02))
+                    .run().getResultTable();
+            ResultTable parallel = manager().setExecutor(pool).addRandomCompetitors(5000).setWeather(new Weather(0.9, 1)).setForm(new Form(0.05, 0.02))
+                    .run().getResultTable();
+
+            assertEquals(sequential.size(), parallel.size());
+            for (int j = 0; j < sequential.size(); j++) {
+                assertEquals(sequential.getJumps(j), parallel.getJumps(j));
+                for (int round = 0; round < sequential.getJumps(j); round++) {
+                    assertEquals(sequential.getResult(j, round), parallel.getResult(j, round));
+                    assertEquals(sequential.getPoints(j, round), parallel.getPoints(j, round));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void tournamentDoesNotDependOnTheAmountOfThreads() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TournamentResults sequential = manager().simulate(100);
+            TournamentResults parallel = manager().setExecutor(pool).simulate(100);
+
+            assertEquals(100, parallel.getRuns());
+            for (int j = 0; j < sequential.getCompetitors().size(); j++) {
+                assertEquals(sequential.getWinProbability(j), parallel.getWinProbability(j));
+                assertEquals(sequential.getPodiumProbability(j), parallel.getPodiumProbability(j));
+                assertEquals(sequential.getPercentile(j, 50), parallel.getPercentile(j, 50));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package dev.modex.skisprungsimulator.utils;
+
+import dev.modex.skisprungsimulator.objects.Roster;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests of {@link CustomRandom}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class CustomRandomTest {
+
+    @Test
+    void sameSeedDrawsTheSameValues() {
+        CustomRandom a = new CustomRandom(42), b = new CustomRandom(42);
+        for (int j = 0; j < 1000; j++)
+            assertEquals(a.nextLong(), b.nextLong());
+    }
+
+    @Test
+    void skipMatchesDrawingTheValues() {
+        CustomRandom drawn = new CustomRandom(42);
+        for (int n = 0; n < 100; n++) {
+            long expected = drawn.copy().nextLong();
+            assertEquals(expected, new CustomRandom(42).skip(n).nextLong());
+            assertEquals(expected, CustomRandom.longAt(42, n));
+            drawn.nextLong();
+        }
+    }
+
+    @Test
+    void copyDrawsTheSameValuesWithoutChangingTheOriginal() {
+        CustomRandom random = new CustomRandom(7);
+        random.nextLong();
+        CustomRandom copy = random.copy();
+        assertEquals(random.nextLong(), copy.nextLong());
+        assertEquals(random.nextDouble(), copy.nextDouble());
+    }
+
+    @Test
+    void streamsOfDifferentNumbersDiffer() {
+        assertEquals(CustomRandom.seedOf(1, 5), CustomRandom.seedOf(1, 5));
+        assertNotEquals(CustomRandom.seedOf(1, 5), CustomRandom.seedOf(1, 6));
+        assertNotEquals(CustomRandom.seedOf(1, 5), CustomRandom.seedOf(2, 5));
+    }
+
+    @Test
+    void parallelRosterMatchesSequentialRoster() {
+        Roster sequential = new Roster(), parallel = new Roster();
+        CustomRandom first = new CustomRandom(3), second = new CustomRandom(3);
+        sequential.addRandom(50_000, first, null);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.addRandom(50_000, second, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int j = 0; j < sequential.size(); j++) {
+            assertEquals(sequential.getName(j), parallel.getName(j));
+            assertEquals(sequential.getSpeed(j), parallel.getSpeed(j));
+            assertEquals(sequential.getLanding(j), parallel.getLanding(j));
+        }
+        assertEquals(first.nextLong(), second.nextLong());
+    }
+}
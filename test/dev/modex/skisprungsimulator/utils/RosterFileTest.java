@@ -0,0 +1,105 @@
+package dev.modex.skisprungsimulator.utils;
+
+import dev.modex.skisprungsimulator.objects.Roster;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of {@link RosterFile}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class RosterFileTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * @return Roster with 1000 random competitors
+     */
+    private static Roster roster() {
+        Roster roster = new Roster();
+        roster.addRandom(1000, new CustomRandom(11), null);
+        return roster;
+    }
+
+    @Test
+    void binaryRoundTripKeepsEveryCompetitor() throws IOException {
+        Roster roster = roster();
+        Path path = directory.resolve("roster.bin");
+        RosterFile.write(roster, path);
+
+        assertSameCompetitors(roster, RosterFile.read(path));
+    }
+
+    @Test
+    void csvRoundTripKeepsEveryCompetitor() throws IOException {
+        Roster roster = roster();
+        StringBuilder csv = new StringBuilder("name,age,speed,power,timing,landing\n");
+        for (int j = 0; j < roster.size(); j++)
+            csv.append(roster.getName(j)).append(',').append(roster.getAge(j)).append(',').append(roster.getSpeed(j)).append(',')
+                    .append(roster.getPower(j)).append(',').append(roster.getTiming(j)).append(',').append(roster.getLanding(j)).append('\n');
+
+        Path path = directory.resolve("roster.csv");
+        Files.writeString(path, csv);
+
+        assertSameCompetitors(roster, RosterFile.read(path));
+    }
+
+    @Test
+    void longNamesAreCutOffAtACharacter() throws IOException {
+        Roster roster = new Roster();
+        roster.add("J\u00fcrgen M\u00fcller", 25, 5, 5, 5, 5);
+        Path path = directory.resolve("roster.bin");
+        RosterFile.write(roster, path, 2);
+
+        assertEquals("J", RosterFile.read(path).getName(0));
+    }
+
+    @Test
+    void tooWideNameFieldIsRejected() throws IOException {
+        Path path = directory.resolve("roster.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            out.writeInt(0x534B524F);
+            out.writeInt(1);
+            out.writeInt(1);
+            out.writeInt(Integer.MAX_VALUE);
+        }
+
+        assertThrows(IOException.class, () -> RosterFile.read(path));
+        assertThrows(IllegalArgumentException.class, () -> RosterFile.write(roster(), path, RosterFile.MAX_NAME_BYTES + 1));
+    }
+
+    @Test
+    void invalidCompetitorIsRejected() throws IOException {
+        Path path = directory.resolve("roster.csv");
+        Files.writeString(path, "Anna Berger,25,5,5,5,5\nBen Huber,25,11,5,5,5\n");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> RosterFile.read(path));
+        assertEquals("Invalid competitor in line 2: Ben Huber,25,11,5,5,5", e.getMessage());
+    }
+
+    /**
+     * @param expected Roster that has been saved
+     * @param actual   Roster that has been loaded
+     */
+    private static void assertSameCompetitors(Roster expected, Roster actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int j = 0; j < expected.size(); j++) {
+            assertEquals(expected.getName(j), actual.getName(j));
+            assertEquals(expected.getAge(j), actual.getAge(j));
+            assertEquals(expected.getSpeed(j), actual.getSpeed(j));
+            assertEquals(expected.getPower(j), actual.getPower(j));
+            assertEquals(expected.getTiming(j), actual.getTiming(j));
+            assertEquals(expected.getLanding(j), actual.getLanding(j));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.modex.skisprungsimulator.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of {@link SimulationServer}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class SimulationServerTest {
+
+    @Test
+    void onlyGetIsAnswered() throws IOException, InterruptedException {
+        try (SimulationServer server = new SimulationServer(0).start()) {
+            HttpClient client = HttpClient.newHttpClient();
+            URI uri = URI.create("http://localhost:" + server.getPort() + "/simulate?competitors=10&rounds=2&seed=1");
+
+            HttpResponse<String> get = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, get.statusCode());
+
+            HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString("competitors=20")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, post.statusCode());
+            assertEquals("GET", post.headers().firstValue("Allow").orElse(null));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package dev.modex.skisprungsimulator.utils;
+
+import dev.modex.skisprungsimulator.objects.Competition;
+import dev.modex.skisprungsimulator.objects.Form;
+import dev.modex.skisprungsimulator.objects.QualificationCut;
+import dev.modex.skisprungsimulator.objects.ResultTable;
+import dev.modex.skisprungsimulator.objects.Weather;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of {@link Snapshot}.
+ *
+ * @author Modex / Thomas Spatz & Simon Garzon
+ */
+class SnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * @return Manager with 4 rounds, cuts after the first two, weather and form that does not print anything
+     */
+    private static CompetitionManager manager() {
+        return new CompetitionManager().setSink(new NullSink()).setSeed(7).randomRamp().addRandomCompetitors(300).setRounds(4)
+                .setCut(0, QualificationCut.top(100)).setCut(1, QualificationCut.top(30))
+                .setWeather(new Weather(0.9, 1)).setForm(new Form(0.05, 0.02)).setDifficultyError(0.5);
+    }
+
+    @Test
+    void resumedCompetitionEndsWithTheSameResults() throws IOException {
+        Competition expected = manager().run();
+
+        for (int completedRounds = 0; completedRounds <= 4; completedRounds++) {
+            Path path = directory.resolve("snapshot-" + completedRounds + ".bin");
+            Snapshot.write(manager().run(), completedRounds, path);
+
+            Snapshot snapshot = Snapshot.read(path);
+            assertEquals(completedRounds, snapshot.getCompletedRounds());
+            assertSameResults(expected.getResultTable(), new CompetitionManager().setSink(new NullSink()).resume(path).run().getResultTable());
+        }
+    }
+
+    @Test
+    void otherFilesAreRejected() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            out.writeInt(0x534B5350);
+            out.writeInt(2);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Snapshot.read(path));
+
+        Files.writeString(path, "not a snapshot");
+        assertThrows(IllegalArgumentException.class, () -> Snapshot.read(path));
+    }
+
+    /**
+     * @param expected Results of the uninterrupted competition
+     * @param actual   Results of the resumed competition
+     */
+    private static void assertSameResults(ResultTable expected, ResultTable actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int j = 0; j < expected.size(); j++) {
+            assertEquals(expected.getJumps(j), actual.getJumps(j));
+            for (int round = 0; round < expected.getJumps(j); round++) {
+                assertEquals(expected.getResult(j, round), actual.getResult(j, round));
+                assertEquals(expected.getPoints(j, round), actual.getPoints(j, round));
+            }
+        }
+    }
+}